@@ -0,0 +1,35 @@
+package wb.wolbu.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 비동기 수강 신청 처리용 스레드 풀. 대기열이 가득 차면 TaskRejectedException
+    @Bean
+    public ThreadPoolTaskExecutor enrollmentTaskExecutor(EnrollmentProperties enrollmentProperties) {
+        EnrollmentProperties.Async async = enrollmentProperties.getAsync();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(async.getThreads());
+        executor.setMaxPoolSize(async.getThreads());
+        executor.setQueueCapacity(async.getQueueCapacity());
+        executor.setThreadNamePrefix("enrollment-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 여러 강좌 동시 신청(PARALLEL 모드)에서 강좌별 트랜잭션을 실행하는 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor multipleEnrollmentExecutor(EnrollmentProperties enrollmentProperties) {
+        EnrollmentProperties.Multiple multiple = enrollmentProperties.getMultiple();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(multiple.getThreads());
+        executor.setMaxPoolSize(multiple.getThreads());
+        executor.setQueueCapacity(multiple.getQueueCapacity());
+        executor.setThreadNamePrefix("enrollment-multiple-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
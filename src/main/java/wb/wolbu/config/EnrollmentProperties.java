@@ -0,0 +1,222 @@
+package wb.wolbu.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "enrollment")
+public class EnrollmentProperties {
+
+    // 수강 신청 시 좌석 확보 방식
+    private SeatClaimMode seatClaimMode = SeatClaimMode.PESSIMISTIC;
+
+    // 강좌별 좌석 확보 방식 (강좌 ID -> 방식). 지정하지 않은 강좌는 seatClaimMode 를 따른다
+    private Map<Long, SeatClaimMode> courseSeatClaimModes = new HashMap<>();
+
+    // 낙관적 락 모드의 충돌 재시도
+    private final Optimistic optimistic = new Optimistic();
+
+    // 강좌 row 비관적 락 대기 제한
+    private final Lock lock = new Lock();
+
+    // DB 앞단의 인메모리 좌석 장부
+    private final Ledger ledger = new Ledger();
+
+    // 강좌별 단일 작성자(single-writer) 수강 신청 엔진
+    private final Engine engine = new Engine();
+
+    // 비동기 수강 신청(202 Accepted + 티켓 조회)
+    private final Async async = new Async();
+
+    // 여러 강좌 동시 신청(POST /api/enrollments/multiple)
+    private final Multiple multiple = new Multiple();
+
+    // 결제 대기 등을 위한 임시 좌석 확보
+    private final Hold hold = new Hold();
+
+    // 추첨 강좌
+    private final Lottery lottery = new Lottery();
+
+    // Idempotency-Key 헤더로 재시도된 요청의 응답 재사용
+    private final Idempotency idempotency = new Idempotency();
+
+    // 수강 신청 동시 처리 수 제한(강좌별 적응형 + 전체 상한)
+    private final Admission admission = new Admission();
+
+    // 인기순/신청률순 목록 상위 구간의 인메모리 랭킹
+    private final Ranking ranking = new Ranking();
+
+    // 강좌 상세 조회(GET /api/courses/{id}) 응답 캐시
+    private final CourseCache courseCache = new CourseCache();
+
+    public enum SeatClaimMode {
+        // 강좌 row에 비관적 락을 걸고 엔티티로 인원 증가
+        PESSIMISTIC,
+        // 락 없이 읽고 커밋 시 @Version 으로 충돌을 검사, 충돌하면 트랜잭션 전체를 재시도
+        OPTIMISTIC,
+        // 락 없이 조건부 UPDATE 한 번으로 좌석 확보
+        CONDITIONAL_UPDATE
+    }
+
+    public enum MultipleMode {
+        // 한 트랜잭션에서 강좌를 ID 순으로 모두 잠그고 일괄 INSERT
+        BULK,
+        // 강좌마다 별도 스레드/트랜잭션으로 동시에 신청하고 결과를 모음
+        PARALLEL
+    }
+
+    @Getter
+    @Setter
+    public static class Optimistic {
+        // 최초 시도를 포함한 최대 시도 횟수. 다 쓰면 429로 거절
+        private int maxAttempts = 5;
+        // 재시도 간격은 0 ~ min(maxBackoffMs, baseBackoffMs * 2^시도) 사이에서 무작위로 고른다 (full jitter)
+        private long baseBackoffMs = 5;
+        private long maxBackoffMs = 100;
+        // 재시도를 다 써서 거절할 때의 Retry-After(초)
+        private long retryAfterSeconds = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Lock {
+        // 락을 기다리는 최대 시간. 넘으면 503 + Retry-After 로 거절하고 커넥션을 돌려준다
+        private int timeoutMs = 3000;
+        private long retryAfterSeconds = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Ledger {
+        private boolean enabled = false;
+        // DB 기준으로 장부를 다시 맞추는 주기
+        private long reconcileIntervalMs = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Engine {
+        private boolean enabled = false;
+        // courseId 해시로 나눠지는 워커(단일 스레드) 수
+        private int workers = 4;
+        // 워커별 대기열 크기. 가득 차면 503으로 거절
+        private int queueCapacity = 10000;
+        // 한 트랜잭션으로 묶어 커밋할 최대 명령 수
+        private int maxBatchSize = 16;
+        // 첫 명령 이후 그룹을 채우기 위해 추가로 기다리는 시간
+        private long lingerMs = 2;
+        // 같은 강좌 신청을 카운터 UPDATE 1번 + JDBC 배치 INSERT로 묶어서 기록
+        private boolean groupCommit = true;
+        // 호출자가 결과를 기다리는 최대 시간
+        private long resultTimeoutMs = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Async {
+        // 백그라운드에서 신청을 처리하는 스레드 수
+        private int threads = 8;
+        // 처리 대기 중인 요청 최대 수. 가득 차면 503으로 거절
+        private int queueCapacity = 10000;
+        // 처리 완료된 티켓을 보관하는 시간과 만료된 티켓을 정리하는 주기
+        private long ticketTtlMs = 600000;
+        private long ticketEvictIntervalMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class Multiple {
+        private MultipleMode mode = MultipleMode.BULK;
+        // PARALLEL 모드에서 강좌별 신청을 실행하는 공용 스레드 수. 커넥션 풀 크기보다 작게 둔다
+        private int threads = 8;
+        // 공용 스레드 풀 대기열 크기. 가득 차면 해당 강좌는 실패로 응답
+        private int queueCapacity = 1000;
+        // 장바구니 하나가 동시에 점유할 수 있는 최대 스레드 수
+        private int maxConcurrencyPerCart = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Hold {
+        // 좌석을 확보해 두는 시간
+        private long ttlMs = 600000;
+        // 만료 타이머 휠의 한 칸(tick) 크기와 칸 수. 만료 시각 오차는 최대 tick 하나
+        private long tickMs = 1000;
+        private int wheelSize = 512;
+        // 만료된 좌석을 한 트랜잭션에서 반환하는 최대 건수
+        private int releaseBatchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Lottery {
+        // 마감된 추첨 강좌를 찾아 추첨하는 주기
+        private long drawIntervalMs = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+        // 응답을 보관하는 시간과 메모리에 보관하는 최대 키 수 (넘치면 오래된 키부터 버린다)
+        private long ttlMs = 3600000;
+        private int maxEntries = 100000;
+        // 같은 키로 동시에 들어온 요청이 첫 요청의 결과를 기다리는 최대 시간
+        private long waitTimeoutMs = 10000;
+        // 성공 응답을 DB(idempotency_record)에도 저장해 재시작 후에도 재사용
+        private boolean persistent = false;
+        // 보관 기간이 지난 키를 정리하는 주기
+        private long evictIntervalMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        private boolean enabled = true;
+        // 모든 강좌를 합친 동시 수강 신청 처리 수. 나머지 Tomcat 스레드는 다른 API 몫으로 남긴다
+        private int globalLimit = 100;
+        // 강좌별 동시 처리 수의 시작값과 범위. 응답 시간에 따라 이 범위 안에서 조정된다
+        private int initialCourseLimit = 8;
+        private int minCourseLimit = 1;
+        private int maxCourseLimit = 50;
+        // 처리 시간이 이보다 길면 강좌 한도를 줄이고, 짧으면 천천히 늘린다
+        private long targetLatencyMs = 200;
+        // 거절 응답의 Retry-After(초)
+        private long retryAfterSeconds = 1;
+        // 강좌별 한도를 들고 있을 최대 강좌 수와, 신청이 없으면 한도를 버리는 시간
+        private int maxTrackedCourses = 10000;
+        private long idleExpireMs = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Ranking {
+        private boolean enabled = true;
+        // 정렬 기준별로 메모리에 둘 상위 강좌 수. 이보다 깊은 페이지는 DB에서 읽는다
+        private int depth = 1000;
+        // 신청/취소로 바뀐 강좌를 랭킹에 반영하는 주기. 목록은 최대 이만큼 늦게 보일 수 있다
+        private long refreshIntervalMs = 200;
+        // 상위권 밖의 강좌까지 반영하도록 DB에서 랭킹을 다시 만드는 주기
+        private long rebuildIntervalMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class CourseCache {
+        private boolean enabled = true;
+        private long maxSize = 10000;
+        // 이 인스턴스를 거치지 않은 변경(다른 인스턴스, 직접 수정한 DB)도 이 시간이 지나면 다시 읽는다
+        private long ttlMs = 60000;
+        // 수강 인원이 바뀌면 지우지 않고 이전 값을 응답하면서 백그라운드에서 다시 읽는다.
+        // 신청이 몰린 강좌의 상세 조회가 매번 DB로 가지 않는 대신 수강 인원이 잠시 늦게 보일 수 있다
+        private boolean staleWhileRevalidate = false;
+        // 이 시간이 지난 항목은 조회 시 이전 값을 응답하고 백그라운드에서 다시 읽는다 (stale-while-revalidate 일 때)
+        private long refreshAfterMs = 5000;
+    }
+}
@@ -8,15 +8,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.dto.CourseSliceDTO;
 import wb.wolbu.dto.CreateCourseRequest;
+import wb.wolbu.dto.LotteryWindowDTO;
+import wb.wolbu.dto.LotteryWindowRequest;
 import wb.wolbu.dto.UpdateCourseRequest;
 import wb.wolbu.entity.Course;
 import wb.wolbu.service.CourseService;
 import wb.wolbu.service.GptService;
+import wb.wolbu.service.LotteryService;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,6 +35,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class CourseController {
     private final CourseService courseService;
     private final GptService gptService;
+    private final LotteryService lotteryService;
 
     @PostMapping
     @Operation(summary = "Create a new course", description = "Creates a new course")
@@ -56,9 +60,19 @@ public class CourseController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "recent") String sortBy){
-        Page<CourseDTO> courseDTOs = courseService.getCourses(page, size, sortBy)
-                .map(CourseDTO::from);
-        return ResponseEntity.ok(courseDTOs);
+        return ResponseEntity.ok(courseService.getCourses(page, size, sortBy));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll courses", description = "Retrieves courses with cursor (keyset) pagination; pass nextCursor from the previous response to get the next page")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved courses",
+            content = @Content(schema = @Schema(implementation = CourseSliceDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+    public ResponseEntity<CourseSliceDTO> scrollCourses(
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "recent") String sortBy){
+        return ResponseEntity.ok(courseService.scrollCourses(cursor, size, sortBy));
     }
 
     @GetMapping("/{id}")
@@ -67,8 +81,7 @@ public class CourseController {
             content = @Content(schema = @Schema(implementation = CourseDTO.class)))
     @ApiResponse(responseCode = "404", description = "Course not found")
     public ResponseEntity<CourseDTO> getCourse(@PathVariable Long id){
-        Course course = courseService.getCourseById(id);
-        return ResponseEntity.ok(CourseDTO.from(course));
+        return ResponseEntity.ok(courseService.getCourseById(id));
     }
 
     @GetMapping("/instructor/{instructorId}")
@@ -77,11 +90,7 @@ public class CourseController {
             content = @Content(schema = @Schema(implementation = List.class)))
     @ApiResponse(responseCode = "404", description = "Instructor not found")
     public ResponseEntity<List<CourseDTO>> getInstructorCourses(@PathVariable Long instructorId){
-        List<CourseDTO> courseDTOs = courseService.getInstructorCourses(instructorId)
-                .stream()
-                .map(CourseDTO::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(courseDTOs);
+        return ResponseEntity.ok(courseService.getInstructorCourses(instructorId));
     }
 
     @PutMapping("/{id}")
@@ -104,6 +113,36 @@ public class CourseController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/lottery")
+    @Operation(summary = "Open a lottery window", description = "Switches a course to lottery mode: enrollments only record applications until the window closes, then seats are drawn in one batch")
+    @ApiResponse(responseCode = "201", description = "Successfully opened lottery window",
+            content = @Content(schema = @Schema(implementation = LotteryWindowDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid window or course already has a lottery")
+    @ApiResponse(responseCode = "404", description = "Course not found")
+    public ResponseEntity<LotteryWindowDTO> openLottery(@PathVariable Long id, @RequestBody @Valid LotteryWindowRequest request){
+        LotteryWindowDTO lottery = lotteryService.openWindow(id, request.getOpensAt(), request.getClosesAt(), request.getSeed());
+        return new ResponseEntity<>(lottery, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}/lottery")
+    @Operation(summary = "Get lottery status", description = "Retrieves the lottery window, applicant count and draw result of a course")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved lottery",
+            content = @Content(schema = @Schema(implementation = LotteryWindowDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Lottery not found")
+    public ResponseEntity<LotteryWindowDTO> getLottery(@PathVariable Long id){
+        return ResponseEntity.ok(lotteryService.getWindow(id));
+    }
+
+    @PostMapping("/{id}/lottery/draw")
+    @Operation(summary = "Run the lottery draw", description = "Draws winners for a closed lottery window and enrolls them (also runs automatically after the window closes)")
+    @ApiResponse(responseCode = "200", description = "Successfully drew winners",
+            content = @Content(schema = @Schema(implementation = LotteryWindowDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Window is still open or already drawn")
+    @ApiResponse(responseCode = "404", description = "Lottery not found")
+    public ResponseEntity<LotteryWindowDTO> drawLottery(@PathVariable Long id){
+        return ResponseEntity.ok(lotteryService.draw(id));
+    }
+
     @PostMapping("recommend")
     @Operation(summary = "Recommend courses", description = "Recommends courses based on the user's goal")
     @ApiResponse(responseCode = "200", description = "Successfully recommended courses",
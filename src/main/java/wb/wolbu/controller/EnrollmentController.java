@@ -5,15 +5,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import wb.wolbu.dto.CourseSwapRequest;
 import wb.wolbu.dto.EnrollmentDTO;
 import wb.wolbu.dto.EnrollmentRequest;
 import wb.wolbu.dto.EnrollmentResult;
+import wb.wolbu.dto.EnrollmentTicketDTO;
+import wb.wolbu.dto.LotteryApplicationDTO;
 import wb.wolbu.dto.MultiCourseEnrollmentRequest;
-import wb.wolbu.entity.Enrollment;
+import wb.wolbu.dto.SeatHoldDTO;
+import wb.wolbu.dto.WaitlistDTO;
+import wb.wolbu.facade.AsyncEnrollmentFacade;
+import wb.wolbu.facade.EnrollmentFacade;
 import wb.wolbu.service.EnrollmentService;
+import wb.wolbu.service.IdempotencyService;
+import wb.wolbu.service.LotteryService;
+import wb.wolbu.service.SeatHoldService;
+import wb.wolbu.service.WaitlistService;
 
+import java.net.URI;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -29,16 +39,58 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final EnrollmentFacade enrollmentFacade;
+    private final AsyncEnrollmentFacade asyncEnrollmentFacade;
+    private final WaitlistService waitlistService;
+    private final SeatHoldService seatHoldService;
+    private final LotteryService lotteryService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    @Operation(summary = "Enroll in a course", description = "Enrolls a student in a course")
+    @Operation(summary = "Enroll in a course", description = "Enrolls a student in a course, or records a lottery application while the course's lottery window is open")
     @ApiResponse(responseCode = "201", description = "Successfully enrolled",
             content = @Content(schema = @Schema(implementation = EnrollmentDTO.class)))
+    @ApiResponse(responseCode = "202", description = "Lottery application recorded, seats are allocated by the draw",
+            content = @Content(schema = @Schema(implementation = LotteryApplicationDTO.class)))
     @ApiResponse(responseCode = "400", description = "Invalid input")
     @ApiResponse(responseCode = "409", description = "Enrollment conflict")
-    public ResponseEntity<EnrollmentDTO> enrollCourse(@RequestBody @Valid EnrollmentRequest request){
-        Enrollment enrollment = enrollmentService.enrollCourse(request.getStudentId(), request.getCourseId());
-        return new ResponseEntity<>(EnrollmentDTO.from(enrollment), HttpStatus.CREATED);
+    @ApiResponse(responseCode = "429", description = "Too many concurrent enrollments for the course, retry after the Retry-After header")
+    @ApiResponse(responseCode = "503", description = "A request with the same Idempotency-Key is still in progress, or the course lock wait timed out (retry after the Retry-After header)")
+    public ResponseEntity<?> enrollCourse(
+            @Parameter(description = "Client-generated key; retries with the same key replay the first response")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid EnrollmentRequest request){
+        return idempotencyService.execute(idempotencyKey, "POST /api/enrollments", request, () -> {
+            if (lotteryService.isLotteryCourse(request.getCourseId())) {
+                LotteryApplicationDTO application = LotteryApplicationDTO.from(
+                        lotteryService.apply(request.getStudentId(), request.getCourseId()));
+                return ResponseEntity.accepted().body(application);
+            }
+            EnrollmentDTO enrollment = enrollmentFacade.enrollCourse(request.getStudentId(), request.getCourseId());
+            return new ResponseEntity<>(enrollment, HttpStatus.CREATED);
+        });
+    }
+
+    @PostMapping("/async")
+    @Operation(summary = "Enroll in a course asynchronously", description = "Accepts an enrollment request and processes it in the background")
+    @ApiResponse(responseCode = "202", description = "Enrollment request accepted",
+            content = @Content(schema = @Schema(implementation = EnrollmentTicketDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid input")
+    @ApiResponse(responseCode = "503", description = "Too many pending enrollment requests")
+    public ResponseEntity<EnrollmentTicketDTO> enrollCourseAsync(@RequestBody @Valid EnrollmentRequest request){
+        EnrollmentTicketDTO ticket = asyncEnrollmentFacade.submit(request.getStudentId(), request.getCourseId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/enrollments/requests/" + ticket.getTicket()))
+                .body(ticket);
+    }
+
+    @GetMapping("/requests/{ticket}")
+    @Operation(summary = "Get enrollment request status", description = "Retrieves the status of an asynchronous enrollment request")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved request status",
+            content = @Content(schema = @Schema(implementation = EnrollmentTicketDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Request not found")
+    public ResponseEntity<EnrollmentTicketDTO> getEnrollmentRequest(@PathVariable String ticket){
+        return ResponseEntity.ok(asyncEnrollmentFacade.getTicket(ticket));
     }
 
     @PostMapping("/multiple")
@@ -47,7 +99,7 @@ public class EnrollmentController {
             content = @Content(schema = @Schema(implementation = List.class)))
     @ApiResponse(responseCode = "400", description = "Invalid input")
     public ResponseEntity<List<EnrollmentResult>> enrollMultipleCourses(@RequestBody @Valid MultiCourseEnrollmentRequest request){
-        List<EnrollmentResult> results = enrollmentService.enrollMultipleCourses(request.getStudentId(), request.getCourseIds());
+        List<EnrollmentResult> results = enrollmentFacade.enrollMultipleCourses(request.getStudentId(), request.getCourseIds());
         return new ResponseEntity<>(results, HttpStatus.CREATED);
     }
 
@@ -55,22 +107,113 @@ public class EnrollmentController {
     @Operation(summary = "Cancel enrollment", description = "Cancels a student's enrollment in a course")
     @ApiResponse(responseCode = "204", description = "Successfully canceled enrollment")
     @ApiResponse(responseCode = "404", description = "Enrollment not found")
-    public ResponseEntity<Void> cancelEnrollment(@RequestBody @Valid EnrollmentRequest request){
-        enrollmentService.cancelEnrollment(request.getStudentId(), request.getCourseId());
+    @ApiResponse(responseCode = "503", description = "A request with the same Idempotency-Key is still in progress")
+    public ResponseEntity<?> cancelEnrollment(
+            @Parameter(description = "Client-generated key; retries with the same key replay the first response")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid EnrollmentRequest request){
+        return idempotencyService.execute(idempotencyKey, "DELETE /api/enrollments", request, () -> {
+            enrollmentFacade.cancelEnrollment(request.getStudentId(), request.getCourseId());
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        });
+    }
+
+    @DeleteMapping("/multiple")
+    @Operation(summary = "Cancel multiple enrollments", description = "Cancels a student's enrollments in multiple courses in one transaction")
+    @ApiResponse(responseCode = "200", description = "Per-course cancellation results in request order",
+            content = @Content(schema = @Schema(implementation = List.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid input")
+    public ResponseEntity<List<EnrollmentResult>> cancelMultipleCourses(@RequestBody @Valid MultiCourseEnrollmentRequest request){
+        return ResponseEntity.ok(enrollmentFacade.cancelMultipleCourses(request.getStudentId(), request.getCourseIds()));
+    }
+
+    @PostMapping("/swap")
+    @Operation(summary = "Swap enrollment to another course", description = "Drops one course and enrolls in another in a single transaction; the original enrollment is kept if the target cannot be taken")
+    @ApiResponse(responseCode = "200", description = "Enrollment moved to the target course",
+            content = @Content(schema = @Schema(implementation = EnrollmentDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Not enrolled in the source course, target is full, or already enrolled in the target")
+    @ApiResponse(responseCode = "404", description = "Course not found")
+    public ResponseEntity<EnrollmentDTO> swapCourse(@RequestBody @Valid CourseSwapRequest request){
+        return ResponseEntity.ok(enrollmentFacade.swapCourse(request.getStudentId(), request.getFromCourseId(), request.getToCourseId()));
+    }
+
+    @PostMapping("/holds")
+    @Operation(summary = "Hold a seat", description = "Reserves a seat in a course for a limited time before enrollment is confirmed")
+    @ApiResponse(responseCode = "201", description = "Seat successfully held",
+            content = @Content(schema = @Schema(implementation = SeatHoldDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Course is full or student already holds/enrolled")
+    public ResponseEntity<SeatHoldDTO> holdSeat(@RequestBody @Valid EnrollmentRequest request){
+        SeatHoldDTO seatHold = SeatHoldDTO.from(seatHoldService.holdSeat(request.getStudentId(), request.getCourseId()));
+        return new ResponseEntity<>(seatHold, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/holds/confirm")
+    @Operation(summary = "Confirm a held seat", description = "Turns a held seat into an enrollment")
+    @ApiResponse(responseCode = "201", description = "Successfully enrolled",
+            content = @Content(schema = @Schema(implementation = EnrollmentDTO.class)))
+    @ApiResponse(responseCode = "400", description = "No valid seat hold")
+    public ResponseEntity<EnrollmentDTO> confirmHold(@RequestBody @Valid EnrollmentRequest request){
+        EnrollmentDTO enrollment = EnrollmentDTO.from(seatHoldService.confirmHold(request.getStudentId(), request.getCourseId()));
+        return new ResponseEntity<>(enrollment, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/holds")
+    @Operation(summary = "Release a held seat", description = "Gives up a held seat before it expires")
+    @ApiResponse(responseCode = "204", description = "Seat successfully released")
+    @ApiResponse(responseCode = "404", description = "Seat hold not found")
+    public ResponseEntity<Void> releaseHold(@RequestBody @Valid EnrollmentRequest request){
+        seatHoldService.releaseHold(request.getStudentId(), request.getCourseId());
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @PostMapping("/waitlist")
+    @Operation(summary = "Join course waitlist", description = "Adds a student to the waitlist of a full course")
+    @ApiResponse(responseCode = "201", description = "Successfully joined the waitlist",
+            content = @Content(schema = @Schema(implementation = WaitlistDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Course has open seats or student is already enrolled/waiting")
+    public ResponseEntity<WaitlistDTO> joinWaitlist(@RequestBody @Valid EnrollmentRequest request){
+        WaitlistDTO waitlist = waitlistService.joinWaitlist(request.getStudentId(), request.getCourseId());
+        return new ResponseEntity<>(waitlist, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/waitlist")
+    @Operation(summary = "Get waitlist position", description = "Retrieves a student's position in a course waitlist")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved waitlist position",
+            content = @Content(schema = @Schema(implementation = WaitlistDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Student is not on the waitlist")
+    public ResponseEntity<WaitlistDTO> getWaitlistPosition(
+            @Parameter(description = "Student ID") @RequestParam Long studentId,
+            @Parameter(description = "Course ID") @RequestParam Long courseId){
+        return ResponseEntity.ok(waitlistService.getWaitlistPosition(studentId, courseId));
+    }
+
+    @DeleteMapping("/waitlist")
+    @Operation(summary = "Leave course waitlist", description = "Removes a student from a course waitlist")
+    @ApiResponse(responseCode = "204", description = "Successfully left the waitlist")
+    @ApiResponse(responseCode = "404", description = "Student is not on the waitlist")
+    public ResponseEntity<Void> leaveWaitlist(@RequestBody @Valid EnrollmentRequest request){
+        waitlistService.leaveWaitlist(request.getStudentId(), request.getCourseId());
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @GetMapping("/lottery")
+    @Operation(summary = "Get lottery application", description = "Retrieves a student's lottery application and its draw result")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved lottery application",
+            content = @Content(schema = @Schema(implementation = LotteryApplicationDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Lottery application not found")
+    public ResponseEntity<LotteryApplicationDTO> getLotteryApplication(
+            @Parameter(description = "Student ID") @RequestParam Long studentId,
+            @Parameter(description = "Course ID") @RequestParam Long courseId){
+        return ResponseEntity.ok(LotteryApplicationDTO.from(lotteryService.getApplication(studentId, courseId)));
+    }
+
     @GetMapping("/student/{studentId}")
     @Operation(summary = "Get student enrollments", description = "Retrieves all enrollments for a specific student")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved enrollments",
             content = @Content(schema = @Schema(implementation = List.class)))
     @ApiResponse(responseCode = "404", description = "Student not found")
     public ResponseEntity<List<EnrollmentDTO>> getStudentEnrollments(@PathVariable Long studentId){
-        List<EnrollmentDTO> enrollmentDTOs = enrollmentService.getStudentEnrollments(studentId)
-                .stream()
-                .map(EnrollmentDTO::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(enrollmentDTOs);
+        return ResponseEntity.ok(enrollmentService.getStudentEnrollments(studentId));
     }
 
     @GetMapping("/course/{courseId}")
@@ -79,10 +222,6 @@ public class EnrollmentController {
             content = @Content(schema = @Schema(implementation = List.class)))
     @ApiResponse(responseCode = "404", description = "Course not found")
     public ResponseEntity<List<EnrollmentDTO>> getCourseEnrollments(@PathVariable Long courseId){
-        List<EnrollmentDTO> enrollmentDTOs = enrollmentService.getCourseEnrollments(courseId)
-                .stream()
-                .map(EnrollmentDTO::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(enrollmentDTOs);
+        return ResponseEntity.ok(enrollmentService.getCourseEnrollments(courseId));
     }
 }
@@ -0,0 +1,24 @@
+package wb.wolbu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseSliceDTO {
+    @Schema(description = "Courses on this page")
+    private List<CourseDTO> content;
+
+    @Schema(description = "Opaque cursor for the next page; null on the last page", example = "cmVjZW50fDIwMjMtMDktMTVUMTQ6MzA6MDB8MTI")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page exists", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,40 @@
+package wb.wolbu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentTicketDTO {
+    @Schema(description = "Enrollment request ticket", example = "3f2b8c1e-6a0d-4c1b-9a7e-2d5f0c9b1a42")
+    private String ticket;
+
+    @Schema(description = "Student ID", example = "1")
+    private Long studentId;
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Processing status", example = "PENDING")
+    private Status status;
+
+    @Schema(description = "Failure reason if the request failed", example = "수강 신청 인원이 꽉 찼습니다.")
+    private String reason;
+
+    @Schema(description = "Created enrollment if the request succeeded")
+    private EnrollmentDTO enrollment;
+
+    @Schema(description = "Request accepted date", example = "2023-09-15T14:30:00")
+    private LocalDateTime requestedAt;
+
+    public enum Status {
+        PENDING, SUCCEEDED, FAILED
+    }
+}
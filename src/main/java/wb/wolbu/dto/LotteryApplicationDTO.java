@@ -0,0 +1,38 @@
+package wb.wolbu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import wb.wolbu.entity.LotteryApplication;
+import wb.wolbu.entity.LotteryResult;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LotteryApplicationDTO {
+    @Schema(description = "Student ID", example = "1")
+    private Long studentId;
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Time the application was received", example = "2023-09-15T14:30:00")
+    private LocalDateTime appliedAt;
+
+    @Schema(description = "Draw result", example = "PENDING")
+    private LotteryResult result;
+
+    public static LotteryApplicationDTO from(LotteryApplication application) {
+        return LotteryApplicationDTO.builder()
+                .studentId(application.getStudent().getId())
+                .courseId(application.getCourse().getId())
+                .appliedAt(application.getAppliedAt())
+                .result(application.getResult())
+                .build();
+    }
+}
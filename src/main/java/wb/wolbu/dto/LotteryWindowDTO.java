@@ -0,0 +1,42 @@
+package wb.wolbu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LotteryWindowDTO {
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Time applications start being accepted", example = "2023-09-15T10:00:00")
+    private LocalDateTime opensAt;
+
+    @Schema(description = "Time applications close", example = "2023-09-16T10:00:00")
+    private LocalDateTime closesAt;
+
+    @Schema(description = "Number of applications received", example = "3500")
+    private long applicantCount;
+
+    @Schema(description = "Whether the draw has been run", example = "true")
+    private boolean drawn;
+
+    @Schema(description = "Seed used for the draw (available after the draw)", example = "20230916")
+    private Long seed;
+
+    @Schema(description = "Remaining seats the draw filled (available after the draw)", example = "30")
+    private Integer seatCount;
+
+    @Schema(description = "Number of winners enrolled by the draw", example = "30")
+    private Integer winnerCount;
+
+    @Schema(description = "Time the draw was run", example = "2023-09-16T10:00:05")
+    private LocalDateTime drawnAt;
+}
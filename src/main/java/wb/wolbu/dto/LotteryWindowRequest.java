@@ -0,0 +1,28 @@
+package wb.wolbu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LotteryWindowRequest {
+    @Schema(description = "Time applications start being accepted (defaults to now)", example = "2023-09-15T10:00:00")
+    private LocalDateTime opensAt;
+
+    @Schema(description = "Time applications close and the draw runs", example = "2023-09-16T10:00:00")
+    @NotNull(message = "추첨 신청 마감 시각은 필수입니다.")
+    @Future(message = "추첨 신청 마감 시각은 현재 이후여야 합니다.")
+    private LocalDateTime closesAt;
+
+    @Schema(description = "Random seed for the draw (generated at draw time if omitted)", example = "20230916")
+    private Long seed;
+}
@@ -0,0 +1,37 @@
+package wb.wolbu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import wb.wolbu.entity.SeatHold;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHoldDTO {
+    @Schema(description = "Seat hold ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Student ID", example = "1")
+    private Long studentId;
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Time the held seat is released unless enrollment is confirmed", example = "2023-09-15T14:40:00")
+    private LocalDateTime expiresAt;
+
+    public static SeatHoldDTO from(SeatHold seatHold) {
+        return SeatHoldDTO.builder()
+                .id(seatHold.getId())
+                .studentId(seatHold.getStudent().getId())
+                .courseId(seatHold.getCourse().getId())
+                .expiresAt(seatHold.getExpiresAt())
+                .build();
+    }
+}
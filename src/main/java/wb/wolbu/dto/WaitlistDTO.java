@@ -0,0 +1,30 @@
+package wb.wolbu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistDTO {
+    @Schema(description = "Student ID", example = "1")
+    private Long studentId;
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Position in the waitlist (1 = next to be enrolled)", example = "3")
+    private int position;
+
+    @Schema(description = "Number of students waiting for the course", example = "12")
+    private int waitingCount;
+
+    @Schema(description = "Time the student joined the waitlist", example = "2023-09-15T14:30:00")
+    private LocalDateTime joinedAt;
+}
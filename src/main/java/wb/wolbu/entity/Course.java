@@ -7,15 +7,21 @@ import lombok.NoArgsConstructor;
 import wb.wolbu.exception.custom.BusinessLogicException;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
 
+// 목록 정렬 3종(최근/인기/신청률)을 정렬 키 + ID 순서 그대로 읽을 수 있는 인덱스. 키셋 조회도 같은 인덱스를 탄다
 @Entity
+@EntityListeners(CourseChangeListener.class)
+@Table(indexes = {
+        @Index(name = "idx_course_created_at", columnList = "createdAt DESC, id DESC"),
+        @Index(name = "idx_course_enrollment_count", columnList = "currentEnrollmentCount DESC, id DESC"),
+        @Index(name = "idx_course_enrollment_rate", columnList = "enrollmentRate DESC, id DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq_generator")
+    @SequenceGenerator(name = "course_seq_generator", sequenceName = "course_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,50 +37,95 @@ public class Course {
     @JoinColumn(name = "instructor_id")
     private Member instructor;
 
-    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
-    private Set<Enrollment> enrollments = new HashSet<>();
-
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-//    @Version
-//    private Long version;
+    // 낙관적 락 모드의 충돌 검사용. 엔티티를 거치지 않는 UPDATE 쿼리도 함께 올려야 한다
+    @Version
+    private Long version;
 
     @Column(nullable = false)
     private Integer currentEnrollmentCount = 0;
 
+    // 결제 대기 등으로 임시 확보된 좌석 수. 정원 계산에 함께 포함된다
+    @Column(nullable = false)
+    private Integer heldSeatCount = 0;
+
+    // 신청률(수강 인원 / 정원). 정렬마다 나눗셈을 계산하면 인덱스를 못 타므로 값을 저장해 둔다.
+    // 수강 인원이나 정원이 바뀔 때마다 다시 계산하며, 엔티티를 거치지 않는 UPDATE 쿼리도 함께 갱신해야 한다
+    @Column(nullable = false)
+    private double enrollmentRate;
+
     public Course(String name, Integer maxStudents, Integer price, Member instructor) {
         this.name = name;
         this.maxStudents = maxStudents;
         this.price = price;
         this.instructor = instructor;
         this.createdAt = LocalDateTime.now();
+        recalculateEnrollmentRate();
     }
 
     public void update(String name, Integer maxStudents, Integer price) {
         this.name = name;
         this.maxStudents = maxStudents;
         this.price = price;
+        recalculateEnrollmentRate();
     }
 
     public boolean canEnroll() {
-        return this.currentEnrollmentCount < this.maxStudents;
+        return getRemainingSeats() > 0;
     }
 
-    public void addEnrollment(Enrollment enrollment) {
-        if (!canEnroll()) {
+    public int getRemainingSeats() {
+        return Math.max(this.maxStudents - this.currentEnrollmentCount - this.heldSeatCount, 0);
+    }
+
+    // 수강생 컬렉션은 두지 않고 인원 수만 관리한다 (수강 정보는 Enrollment -> Course 단방향)
+    public void increaseEnrollmentCount() {
+        increaseEnrollmentCount(1);
+    }
+
+    public void increaseEnrollmentCount(int count) {
+        if (count > getRemainingSeats()) {
             throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
         }
-        this.enrollments.add(enrollment);
-        this.currentEnrollmentCount++;
+        this.currentEnrollmentCount += count;
+        recalculateEnrollmentRate();
     }
 
     public void setInstructor(Member instructor) {
         this.instructor = instructor;
     }
 
-    public void removeEnrollment(Enrollment enrollment) {
-        this.enrollments.remove(enrollment);
+    public void decreaseEnrollmentCount() {
         this.currentEnrollmentCount--;
+        recalculateEnrollmentRate();
+    }
+
+    public void holdSeat() {
+        if (!canEnroll()) {
+            throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
+        }
+        this.heldSeatCount++;
+    }
+
+    // 확보해 둔 좌석을 수강 인원으로 전환 (정원 검사는 좌석 확보 시점에 이미 끝남)
+    public void confirmHeldSeat() {
+        this.heldSeatCount--;
+        this.currentEnrollmentCount++;
+        recalculateEnrollmentRate();
+    }
+
+    public void releaseHeldSeats(int count) {
+        this.heldSeatCount = Math.max(this.heldSeatCount - count, 0);
+    }
+
+    private void recalculateEnrollmentRate() {
+        this.enrollmentRate = enrollmentRate(this.currentEnrollmentCount, this.maxStudents);
+    }
+
+    // 저장되는 신청률 계산. 커서/랭킹처럼 프로젝션 값으로 신청률을 다시 구하는 곳도 이 계산을 써야 DB 정렬과 어긋나지 않는다
+    public static double enrollmentRate(int enrollmentCount, int maxStudents) {
+        return maxStudents > 0 ? (double) enrollmentCount / maxStudents : 0;
     }
 }
@@ -0,0 +1,32 @@
+package wb.wolbu.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import wb.wolbu.service.CourseChangedEvent;
+import wb.wolbu.service.CourseChangedEvent.Change;
+
+// 엔티티를 거친 강좌 변경(신청/취소/추첨/좌석 확정/수정 등)을 한곳에서 이벤트로 알린다.
+// JPQL 벌크 UPDATE 는 엔티티 콜백을 거치지 않으므로 호출한 쪽에서 직접 이벤트를 발행해야 한다
+@RequiredArgsConstructor
+public class CourseChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void created(Course course) {
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId(), Change.CREATED));
+    }
+
+    @PostUpdate
+    public void updated(Course course) {
+        eventPublisher.publishEvent(CourseChangedEvent.updated(course.getId()));
+    }
+
+    @PostRemove
+    public void deleted(Course course) {
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId(), Change.DELETED));
+    }
+}
@@ -0,0 +1,40 @@
+package wb.wolbu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Idempotency-Key 로 처리한 요청의 응답. 재시작이나 다른 인스턴스로 재시도가 들어와도 같은 응답을 돌려준다
+@Entity
+@Table(indexes = @Index(name = "idx_idempotency_record_created_at", columnList = "createdAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    // 같은 키로 다른 요청이 들어왔는지 확인하기 위한 요청 내용
+    @Column(nullable = false, length = 500)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private int statusCode;
+
+    @Lob
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyRecord(String idempotencyKey, String fingerprint, int statusCode, String responseBody) {
+        this.idempotencyKey = idempotencyKey;
+        this.fingerprint = fingerprint;
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+        this.createdAt = LocalDateTime.now();
+    }
+}
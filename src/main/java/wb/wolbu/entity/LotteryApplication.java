@@ -0,0 +1,45 @@
+package wb.wolbu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 추첨 신청 기간 동안 접수된 수강 신청. 좌석은 추첨 때 한 번에 배정된다
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_lottery_application_member_course", columnNames = {"member_id", "course_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LotteryApplication {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lottery_application_seq_generator")
+    @SequenceGenerator(name = "lottery_application_seq_generator", sequenceName = "lottery_application_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id")
+    private Course course;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LotteryResult result = LotteryResult.PENDING;
+
+    public LotteryApplication(Member student, Course course) {
+        this.student = student;
+        this.course = course;
+        this.appliedAt = LocalDateTime.now();
+    }
+
+    public void setResult(LotteryResult result) {
+        this.result = result;
+    }
+}
@@ -0,0 +1,7 @@
+package wb.wolbu.entity;
+
+public enum LotteryResult {
+    PENDING, WON, LOST,
+    // 추첨 시점에 이미 수강 중이라 후보에서 빠진 신청. 재추첨 검증 시 후보 목록에서 제외한다
+    EXCLUDED
+}
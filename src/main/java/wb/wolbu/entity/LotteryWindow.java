@@ -0,0 +1,61 @@
+package wb.wolbu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 추첨 강좌의 신청 기간과 추첨 결과. 시드를 함께 저장해 같은 신청 목록이면 언제든 같은 당첨자를 재현할 수 있다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LotteryWindow {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lottery_window_seq_generator")
+    @SequenceGenerator(name = "lottery_window_seq_generator", sequenceName = "lottery_window_seq", allocationSize = 50)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", unique = true)
+    private Course course;
+
+    @Column(nullable = false)
+    private LocalDateTime opensAt;
+
+    @Column(nullable = false)
+    private LocalDateTime closesAt;
+
+    // 지정하지 않으면 추첨 시점에 생성해 저장
+    private Long seed;
+
+    private LocalDateTime drawnAt;
+
+    // 추첨에 쓴 남은 좌석 수. 추첨 뒤 인원이 바뀌어도 같은 입력으로 다시 돌려볼 수 있게 남긴다
+    private Integer seatCount;
+
+    private Integer winnerCount;
+
+    public LotteryWindow(Course course, LocalDateTime opensAt, LocalDateTime closesAt, Long seed) {
+        this.course = course;
+        this.opensAt = opensAt;
+        this.closesAt = closesAt;
+        this.seed = seed;
+    }
+
+    public boolean isAccepting(LocalDateTime now) {
+        return !now.isBefore(opensAt) && now.isBefore(closesAt);
+    }
+
+    public boolean isDrawn() {
+        return drawnAt != null;
+    }
+
+    public void markDrawn(long seed, int seatCount, int winnerCount) {
+        this.seed = seed;
+        this.seatCount = seatCount;
+        this.winnerCount = winnerCount;
+        this.drawnAt = LocalDateTime.now();
+    }
+}
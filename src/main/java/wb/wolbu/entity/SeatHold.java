@@ -0,0 +1,41 @@
+package wb.wolbu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 수강 신청 확정 전 일정 시간 동안 확보해 둔 좌석
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_seat_hold_member_course", columnNames = {"member_id", "course_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeatHold {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_hold_seq_generator")
+    @SequenceGenerator(name = "seat_hold_seq_generator", sequenceName = "seat_hold_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id")
+    private Course course;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public SeatHold(Member student, Course course, LocalDateTime expiresAt) {
+        this.student = student;
+        this.course = course;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
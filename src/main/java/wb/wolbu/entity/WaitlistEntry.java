@@ -0,0 +1,38 @@
+package wb.wolbu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 매진 강좌의 대기 순번. 시퀀스 ID가 곧 강좌 안에서의 선착순 순서다
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_member_course", columnNames = {"member_id", "course_id"}),
+        indexes = @Index(name = "idx_waitlist_course", columnList = "course_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entry_seq_generator")
+    @SequenceGenerator(name = "waitlist_entry_seq_generator", sequenceName = "waitlist_entry_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id")
+    private Course course;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public WaitlistEntry(Member student, Course course) {
+        this.student = student;
+        this.course = course;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,17 @@
+package wb.wolbu.exception.custom;
+
+import lombok.Getter;
+import wb.wolbu.dto.EnrollmentDTO;
+
+import java.util.concurrent.CompletableFuture;
+
+// 엔진에 넣은 신청의 결과를 제한 시간 안에 받지 못한 경우. 명령은 대기열에 남아 나중에 커밋될 수 있으므로 실패로 확정하면 안 된다
+@Getter
+public class EnrollmentPendingException extends ServiceUnavailableException {
+    private final CompletableFuture<EnrollmentDTO> result;
+
+    public EnrollmentPendingException(String message, CompletableFuture<EnrollmentDTO> result) {
+        super(message);
+        this.result = result;
+    }
+}
@@ -0,0 +1,14 @@
+package wb.wolbu.exception.custom;
+
+import lombok.Getter;
+
+// 강좌 row 락을 제한 시간 안에 얻지 못한 경우. 잠시 후 재시도하면 성공할 수 있는 실패다
+@Getter
+public class LockTimeoutExceededException extends ServiceUnavailableException {
+    private final long retryAfterSeconds;
+
+    public LockTimeoutExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
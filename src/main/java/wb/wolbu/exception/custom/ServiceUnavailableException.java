@@ -0,0 +1,7 @@
+package wb.wolbu.exception.custom;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
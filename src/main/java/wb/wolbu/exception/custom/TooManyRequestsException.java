@@ -0,0 +1,14 @@
+package wb.wolbu.exception.custom;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    // 클라이언트에 Retry-After 헤더로 전달할 재시도 대기 시간(초)
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
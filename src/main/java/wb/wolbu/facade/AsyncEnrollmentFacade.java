@@ -0,0 +1,141 @@
+package wb.wolbu.facade;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.EnrollmentDTO;
+import wb.wolbu.dto.EnrollmentTicketDTO;
+import wb.wolbu.dto.EnrollmentTicketDTO.Status;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.EnrollmentPendingException;
+import wb.wolbu.exception.custom.ResourceNotFoundException;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+import wb.wolbu.exception.custom.TooManyRequestsException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 수강 신청을 접수만 하고 티켓을 바로 돌려준 뒤, 실제 처리는 백그라운드 스레드에서 진행한다.
+// 신청 폭주 시에도 Tomcat 스레드가 강좌 락을 기다리며 묶이지 않는다.
+@Slf4j
+@Component
+public class AsyncEnrollmentFacade {
+
+    private final EnrollmentFacade enrollmentFacade;
+    private final ThreadPoolTaskExecutor enrollmentTaskExecutor;
+    private final EnrollmentProperties.Async properties;
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    public AsyncEnrollmentFacade(EnrollmentFacade enrollmentFacade,
+                                 @Qualifier("enrollmentTaskExecutor") ThreadPoolTaskExecutor enrollmentTaskExecutor,
+                                 EnrollmentProperties enrollmentProperties) {
+        this.enrollmentFacade = enrollmentFacade;
+        this.enrollmentTaskExecutor = enrollmentTaskExecutor;
+        this.properties = enrollmentProperties.getAsync();
+    }
+
+    public EnrollmentTicketDTO submit(Long studentId, Long courseId) {
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), studentId, courseId);
+        tickets.put(ticket.id, ticket);
+
+        try {
+            enrollmentTaskExecutor.execute(() -> process(ticket));
+        } catch (TaskRejectedException e) {
+            tickets.remove(ticket.id);
+            throw new ServiceUnavailableException("수강 신청 대기 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return ticket.toDTO();
+    }
+
+    public EnrollmentTicketDTO getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("해당 수강 신청 요청을 찾을 수 없습니다. ticket=" + ticketId);
+        }
+        return ticket.toDTO();
+    }
+
+    private void process(Ticket ticket) {
+        try {
+            EnrollmentDTO enrollment = enrollmentFacade.enrollCourse(ticket.studentId, ticket.courseId);
+            ticket.succeed(enrollment);
+        } catch (EnrollmentPendingException e) {
+            // 엔진 대기열에 남은 명령이 나중에 커밋될 수 있으므로 PENDING 으로 두고 엔진 결과로 마무리한다
+            e.getResult().whenComplete((enrollment, failure) -> complete(ticket, enrollment, failure));
+        } catch (BusinessLogicException | EntityNotFoundException | ServiceUnavailableException | TooManyRequestsException e) {
+            ticket.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("비동기 수강 신청 처리 실패 - ticket: {}", ticket.id, e);
+            ticket.fail("수강 신청 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void complete(Ticket ticket, EnrollmentDTO enrollment, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause == null) {
+            ticket.succeed(enrollment);
+        } else if (cause instanceof BusinessLogicException || cause instanceof EntityNotFoundException) {
+            ticket.fail(cause.getMessage());
+        } else {
+            log.error("비동기 수강 신청 처리 실패 - ticket: {}", ticket.id, cause);
+            ticket.fail("수강 신청 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 처리 완료 후 보관 기간이 지난 티켓 정리
+    @Scheduled(fixedDelayString = "${enrollment.async.ticket-evict-interval-ms:60000}")
+    public void evictExpiredTickets() {
+        long expiredBefore = System.currentTimeMillis() - properties.getTicketTtlMs();
+        tickets.values().removeIf(ticket -> ticket.completedAt != 0 && ticket.completedAt < expiredBefore);
+    }
+
+    private static class Ticket {
+        private final String id;
+        private final Long studentId;
+        private final Long courseId;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private volatile Status status = Status.PENDING;
+        private volatile String reason;
+        private volatile EnrollmentDTO enrollment;
+        private volatile long completedAt;
+
+        private Ticket(String id, Long studentId, Long courseId) {
+            this.id = id;
+            this.studentId = studentId;
+            this.courseId = courseId;
+        }
+
+        private void succeed(EnrollmentDTO enrollment) {
+            this.enrollment = enrollment;
+            this.completedAt = System.currentTimeMillis();
+            this.status = Status.SUCCEEDED;
+        }
+
+        private void fail(String reason) {
+            this.reason = reason;
+            this.completedAt = System.currentTimeMillis();
+            this.status = Status.FAILED;
+        }
+
+        private EnrollmentTicketDTO toDTO() {
+            return EnrollmentTicketDTO.builder()
+                    .ticket(id)
+                    .studentId(studentId)
+                    .courseId(courseId)
+                    .status(status)
+                    .reason(reason)
+                    .enrollment(enrollment)
+                    .requestedAt(requestedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package wb.wolbu.facade;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.config.EnrollmentProperties.MultipleMode;
+import wb.wolbu.dto.EnrollmentDTO;
+import wb.wolbu.dto.EnrollmentResult;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.EnrollmentPendingException;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+import wb.wolbu.exception.custom.TooManyRequestsException;
+import wb.wolbu.service.AdmissionLimiter;
+import wb.wolbu.service.EnrollmentEngine;
+import wb.wolbu.service.EnrollmentService;
+import wb.wolbu.service.LotteryService;
+import wb.wolbu.service.SeatClaimStrategies;
+import wb.wolbu.service.SeatLedger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+// 트랜잭션 밖에서 수강 신청 요청을 먼저 걸러내고 EnrollmentService로 위임한다.
+@Slf4j
+@Component
+public class EnrollmentFacade {
+
+    private final EnrollmentService enrollmentService;
+    private final SeatLedger seatLedger;
+    private final EnrollmentEngine enrollmentEngine;
+    private final ThreadPoolTaskExecutor multipleEnrollmentExecutor;
+    private final LotteryService lotteryService;
+    private final AdmissionLimiter admissionLimiter;
+    private final SeatClaimStrategies seatClaimStrategies;
+    private final EnrollmentProperties.Multiple multipleProperties;
+
+    public EnrollmentFacade(EnrollmentService enrollmentService,
+                            SeatLedger seatLedger,
+                            EnrollmentEngine enrollmentEngine,
+                            LotteryService lotteryService,
+                            AdmissionLimiter admissionLimiter,
+                            SeatClaimStrategies seatClaimStrategies,
+                            @Qualifier("multipleEnrollmentExecutor") ThreadPoolTaskExecutor multipleEnrollmentExecutor,
+                            EnrollmentProperties enrollmentProperties) {
+        this.enrollmentService = enrollmentService;
+        this.seatLedger = seatLedger;
+        this.enrollmentEngine = enrollmentEngine;
+        this.lotteryService = lotteryService;
+        this.admissionLimiter = admissionLimiter;
+        this.seatClaimStrategies = seatClaimStrategies;
+        this.multipleEnrollmentExecutor = multipleEnrollmentExecutor;
+        this.multipleProperties = enrollmentProperties.getMultiple();
+    }
+
+    public EnrollmentDTO enrollCourse(Long studentId, Long courseId) {
+        // 추첨 강좌는 신청만 받고 좌석은 추첨으로 배정한다 (단건 API는 컨트롤러에서 추첨 신청으로 돌린다)
+        if (lotteryService.isLotteryCourse(courseId)) {
+            throw new BusinessLogicException("추첨으로 수강생을 선발하는 강좌입니다.");
+        }
+
+        if (!seatLedger.isEnabled()) {
+            return doEnrollCourse(studentId, courseId);
+        }
+
+        // 장부상 매진이면 트랜잭션을 열지 않고 바로 거절
+        if (!seatLedger.tryAcquire(courseId)) {
+            throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
+        }
+
+        try {
+            EnrollmentDTO enrollment = doEnrollCourse(studentId, courseId);
+            seatLedger.confirm(courseId);
+            return enrollment;
+        } catch (EnrollmentPendingException e) {
+            // 엔진이 아직 처리 중이면 여기서 좌석을 돌려주면 안 된다. 결과가 나올 때 확정하거나 반납한다
+            e.getResult().whenComplete((enrollment, failure) -> {
+                if (failure == null) {
+                    seatLedger.confirm(courseId);
+                } else {
+                    seatLedger.release(courseId);
+                }
+            });
+            throw e;
+        } catch (RuntimeException e) {
+            seatLedger.release(courseId);
+            throw e;
+        }
+    }
+
+    // 엔진이 켜져 있으면 강좌 담당 워커에 명령을 넘기고 결과를 기다린다.
+    // 호출자가 DB 커넥션을 잡은 채 기다리지 않도록 트랜잭션 밖(facade)에서 제출한다.
+    private EnrollmentDTO doEnrollCourse(Long studentId, Long courseId) {
+        if (enrollmentEngine.isEnabled()) {
+            return enrollmentEngine.enrollCourse(studentId, courseId);
+        }
+        // 엔진은 자체 대기열로 부하를 제한하므로, 요청 스레드가 직접 강좌 락을 기다리는 경로만 동시 처리 수를 제한한다
+        try (AdmissionLimiter.Permit permit = admissionLimiter.acquire(courseId)) {
+            return seatClaimStrategies.forCourse(courseId)
+                    .execute(() -> EnrollmentDTO.from(enrollmentService.enrollCourse(studentId, courseId)));
+        }
+    }
+
+    public List<EnrollmentResult> enrollMultipleCourses(Long studentId, List<Long> courseIds) {
+        if (multipleProperties.getMode() == MultipleMode.PARALLEL) {
+            return enrollMultipleCoursesInParallel(studentId, courseIds);
+        }
+
+        List<EnrollmentResult> results = enrollMultipleCoursesInBulk(studentId, courseIds);
+
+        if (seatLedger.isEnabled()) {
+            // 장부를 거치지 않은 경로이므로 성공한 강좌는 DB에서 다시 읽어오게 한다
+            results.stream()
+                    .filter(EnrollmentResult::isSuccess)
+                    .forEach(result -> seatLedger.evict(result.getCourseId()));
+        }
+        return results;
+    }
+
+    // 추첨 강좌는 일괄 처리 대상에서 빼고, 요청 순서대로 결과를 합친다
+    private List<EnrollmentResult> enrollMultipleCoursesInBulk(Long studentId, List<Long> courseIds) {
+        Set<Long> lotteryCourseIds = courseIds.stream()
+                .filter(lotteryService::isLotteryCourse)
+                .collect(Collectors.toSet());
+        if (lotteryCourseIds.isEmpty()) {
+            return enrollmentService.enrollMultipleCourses(studentId, courseIds);
+        }
+
+        List<Long> firstComeCourseIds = courseIds.stream()
+                .filter(courseId -> !lotteryCourseIds.contains(courseId))
+                .toList();
+        Iterator<EnrollmentResult> enrolled = firstComeCourseIds.isEmpty()
+                ? Collections.emptyIterator()
+                : enrollmentService.enrollMultipleCourses(studentId, firstComeCourseIds).iterator();
+        List<EnrollmentResult> results = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            if (lotteryCourseIds.contains(courseId)) {
+                results.add(new EnrollmentResult(courseId, false, "추첨으로 수강생을 선발하는 강좌입니다."));
+            } else {
+                results.add(enrolled.next());
+            }
+        }
+        return results;
+    }
+
+    // 강좌마다 별도 스레드에서 단건 신청(자체 트랜잭션)을 실행하고 결과를 모은다.
+    // 한 강좌의 락 대기나 실패가 다른 강좌를 붙잡지 않으므로 응답 시간은 가장 느린 강좌 하나에 가까워진다.
+    // 장바구니 하나가 공용 스레드(와 커넥션)를 독점하지 않도록 동시 실행 수를 제한한다.
+    private List<EnrollmentResult> enrollMultipleCoursesInParallel(Long studentId, List<Long> courseIds) {
+        Semaphore permits = new Semaphore(multipleProperties.getMaxConcurrencyPerCart());
+        Map<Long, CompletableFuture<EnrollmentResult>> futures = new LinkedHashMap<>();
+
+        for (Long courseId : courseIds) {
+            if (futures.containsKey(courseId)) {
+                continue;
+            }
+            permits.acquireUninterruptibly();
+            try {
+                futures.put(courseId, CompletableFuture
+                        .supplyAsync(() -> enrollForResult(studentId, courseId), multipleEnrollmentExecutor)
+                        .whenComplete((result, e) -> permits.release()));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                futures.put(courseId, CompletableFuture.completedFuture(
+                        new EnrollmentResult(courseId, false, "수강 신청 대기 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")));
+            }
+        }
+
+        // 요청 순서대로 결과를 돌려주고, 같은 강좌가 두 번 담긴 경우 두 번째는 중복으로 처리
+        Set<Long> answered = new HashSet<>();
+        List<EnrollmentResult> results = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            if (answered.add(courseId)) {
+                results.add(futures.get(courseId).join());
+            } else {
+                results.add(new EnrollmentResult(courseId, false, "이미 수강 중인 강좌입니다."));
+            }
+        }
+        return results;
+    }
+
+    private EnrollmentResult enrollForResult(Long studentId, Long courseId) {
+        try {
+            enrollCourse(studentId, courseId);
+            return new EnrollmentResult(courseId, true, null);
+        } catch (BusinessLogicException | EntityNotFoundException | ServiceUnavailableException | TooManyRequestsException e) {
+            return new EnrollmentResult(courseId, false, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("여러 강좌 수강 신청 중 오류 - studentId: {}, courseId: {}", studentId, courseId, e);
+            return new EnrollmentResult(courseId, false, "수강 신청 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    public void cancelEnrollment(Long studentId, Long courseId) {
+        if (enrollmentEngine.isEnabled()) {
+            enrollmentEngine.cancelEnrollment(studentId, courseId);
+        } else {
+            enrollmentService.cancelEnrollment(studentId, courseId);
+        }
+
+        if (seatLedger.isEnabled()) {
+            seatLedger.free(courseId);
+        }
+    }
+
+    public EnrollmentDTO swapCourse(Long studentId, Long fromCourseId, Long toCourseId) {
+        if (lotteryService.isLotteryCourse(toCourseId)) {
+            throw new BusinessLogicException("추첨으로 수강생을 선발하는 강좌입니다.");
+        }
+
+        EnrollmentDTO enrollment = EnrollmentDTO.from(enrollmentService.swapCourse(studentId, fromCourseId, toCourseId));
+
+        if (seatLedger.isEnabled()) {
+            // 장부를 거치지 않고 두 강좌의 인원이 바뀌었으므로 둘 다 DB에서 다시 읽게 한다
+            seatLedger.evict(fromCourseId);
+            seatLedger.evict(toCourseId);
+        }
+        return enrollment;
+    }
+
+    public List<EnrollmentResult> cancelMultipleCourses(Long studentId, List<Long> courseIds) {
+        List<EnrollmentResult> results = enrollmentService.cancelMultipleCourses(studentId, courseIds);
+
+        if (seatLedger.isEnabled()) {
+            // 취소 후 대기열 승격으로 다시 찬 좌석이 있을 수 있으므로 장부는 DB에서 다시 읽게 한다
+            results.stream()
+                    .filter(EnrollmentResult::isSuccess)
+                    .forEach(result -> seatLedger.evict(result.getCourseId()));
+        }
+        return results;
+    }
+}
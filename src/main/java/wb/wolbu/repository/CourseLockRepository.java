@@ -0,0 +1,16 @@
+package wb.wolbu.repository;
+
+import wb.wolbu.entity.Course;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 강좌 row 비관적 락 조회. 락 대기 시간을 설정값으로 제한하고, 초과하면 LockTimeoutExceededException 을 던진다
+public interface CourseLockRepository {
+
+    Optional<Course> findByIdWithPessimisticLock(Long id);
+
+    // 여러 강좌를 한 번에 잠근다. 항상 ID 오름차순으로 잠가 장바구니 순서가 다른 요청끼리 교착 상태에 빠지지 않게 한다
+    List<Course> findAllByIdInWithPessimisticLock(Collection<Long> ids);
+}
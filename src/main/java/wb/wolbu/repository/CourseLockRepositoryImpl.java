@@ -0,0 +1,91 @@
+package wb.wolbu.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.Course;
+import wb.wolbu.exception.custom.LockTimeoutExceededException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 인기 강좌의 락을 DB 기본값만큼 기다리면 대기 중인 요청마다 커넥션을 하나씩 잡고 있어 커넥션 풀 전체가 마른다.
+// jakarta.persistence.lock.timeout 힌트로 대기 시간을 제한하고, 대기 시간은 결과(acquired/timeout)별로 기록한다
+@Slf4j
+public class CourseLockRepositoryImpl implements CourseLockRepository {
+
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final EnrollmentProperties.Lock properties;
+    // 락을 잡을 때마다 빌더로 찾지 않도록 scope/outcome 조합별 타이머를 미리 등록해 둔다
+    private final WaitTimers singleWait;
+    private final WaitTimers multipleWait;
+
+    public CourseLockRepositoryImpl(EnrollmentProperties enrollmentProperties, MeterRegistry meterRegistry) {
+        this.properties = enrollmentProperties.getLock();
+        this.singleWait = WaitTimers.register(meterRegistry, "single");
+        this.multipleWait = WaitTimers.register(meterRegistry, "multiple");
+    }
+
+    @Override
+    public Optional<Course> findByIdWithPessimisticLock(Long id) {
+        return withLockTimeout(singleWait, () -> Optional.ofNullable(
+                entityManager.find(Course.class, id, LockModeType.PESSIMISTIC_WRITE, lockHints())));
+    }
+
+    @Override
+    public List<Course> findAllByIdInWithPessimisticLock(Collection<Long> ids) {
+        return withLockTimeout(multipleWait, () -> entityManager
+                .createQuery("SELECT c FROM Course c WHERE c.id IN :ids ORDER BY c.id", Course.class)
+                .setParameter("ids", ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, properties.getTimeoutMs())
+                .getResultList());
+    }
+
+    private Map<String, Object> lockHints() {
+        return Map.of(LOCK_TIMEOUT_HINT, properties.getTimeoutMs());
+    }
+
+    private <T> T withLockTimeout(WaitTimers timers, Supplier<T> query) {
+        long startedAt = System.nanoTime();
+        try {
+            T result = query.get();
+            timers.acquired().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (LockTimeoutException | PessimisticLockException e) {
+            timers.timeout().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.warn("강좌 락 대기 시간 초과 - {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            throw new LockTimeoutExceededException("수강 신청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.",
+                    properties.getRetryAfterSeconds());
+        }
+    }
+
+    private record WaitTimers(Timer acquired, Timer timeout) {
+        private static WaitTimers register(MeterRegistry meterRegistry, String scope) {
+            return new WaitTimers(timer(meterRegistry, scope, "acquired"), timer(meterRegistry, scope, "timeout"));
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, String scope, String outcome) {
+            return Timer.builder("enrollment.course.lock.wait")
+                    .description("강좌 row 비관적 락을 얻기까지 걸린 시간")
+                    .tag("scope", scope)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -1,34 +1,92 @@
 package wb.wolbu.repository;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import wb.wolbu.dto.CourseDTO;
 import wb.wolbu.entity.Course;
-import wb.wolbu.entity.Member;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseLockRepository {
+    // 목록 응답용 프로젝션. 강사 이름까지 조인해 CourseDTO 로 바로 읽으므로 엔티티를 영속성 컨텍스트에 올리지 않고(변경 감지 없음)
+    // 강사 지연 로딩 쿼리도 나가지 않는다. 인자 순서는 CourseDTO 생성자(필드 선언) 순서와 같아야 한다
+    String COURSE_VIEW = "SELECT new wb.wolbu.dto.CourseDTO(c.id, c.name, c.maxStudents, c.price, c.currentEnrollmentCount, i.name, c.createdAt) " +
+            "FROM Course c LEFT JOIN c.instructor i ";
+
     // 강의를 최근 등록 순으로 정렬
-    Page<Course> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @Query(value = COURSE_VIEW + "ORDER BY c.createdAt DESC",
+            countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseDTO> findRecentViews(Pageable pageable);
 
-    // 강의를 신청자 많은 순으로 정렬
-    Page<Course> findAllByOrderByCurrentEnrollmentCountDesc(Pageable pageable);
+    // 강의를 신청자 많은 순으로 정렬. 인메모리 랭킹과 페이지 경계가 어긋나지 않도록 같은 순서(ID 내림차순)로 동점을 정렬한다
+    @Query(value = COURSE_VIEW + "ORDER BY c.currentEnrollmentCount DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseDTO> findPopularViews(Pageable pageable);
 
     // 강의를 신청률 높은 순으로 정렬
-    @Query("SELECT c FROM Course c ORDER BY (c.currentEnrollmentCount * 1.0 / c.maxStudents) DESC")
-    Page<Course> findAllOrderByEnrollmentRateDesc(Pageable pageable);
+    @Query(value = COURSE_VIEW + "ORDER BY c.enrollmentRate DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseDTO> findEnrollmentRateViews(Pageable pageable);
+
+    @Query(COURSE_VIEW + "WHERE i.id = :instructorId")
+    List<CourseDTO> findViewsByInstructorId(@Param("instructorId") Long instructorId);
+
+    @Query(COURSE_VIEW + "WHERE c.id = :id")
+    Optional<CourseDTO> findViewById(@Param("id") Long id);
+
+    @Query(COURSE_VIEW + "WHERE c.id IN :ids")
+    List<CourseDTO> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 커서(키셋) 기반 목록. OFFSET 으로 앞 페이지를 읽고 버리거나 count(*) 를 세지 않으므로 몇 번째 페이지든 비용이 같다.
+    // 정렬 키가 같은 강좌는 ID 내림차순으로 순서를 고정하고, 첫 페이지는 커서 조건이 없는 쿼리를 쓴다.
+    // 커서를 만드는 정렬 키(등록일, 수강 인원, 정원)는 CourseDTO 에 함께 담겨 오므로 엔티티를 읽지 않는다
+    @Query(COURSE_VIEW + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CourseDTO> findRecentFirst(Pageable pageable);
+
+    @Query(COURSE_VIEW +
+            "WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CourseDTO> findRecentAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(COURSE_VIEW + "ORDER BY c.currentEnrollmentCount DESC, c.id DESC")
+    List<CourseDTO> findPopularFirst(Pageable pageable);
+
+    @Query(COURSE_VIEW +
+            "WHERE c.currentEnrollmentCount < :count OR (c.currentEnrollmentCount = :count AND c.id < :id) " +
+            "ORDER BY c.currentEnrollmentCount DESC, c.id DESC")
+    List<CourseDTO> findPopularAfter(@Param("count") int count, @Param("id") Long id, Pageable pageable);
+
+    @Query(COURSE_VIEW + "ORDER BY c.enrollmentRate DESC, c.id DESC")
+    List<CourseDTO> findEnrollmentRateFirst(Pageable pageable);
+
+    @Query(COURSE_VIEW +
+            "WHERE c.enrollmentRate < :rate OR (c.enrollmentRate = :rate AND c.id < :id) " +
+            "ORDER BY c.enrollmentRate DESC, c.id DESC")
+    List<CourseDTO> findEnrollmentRateAfter(@Param("rate") double rate, @Param("id") Long id, Pageable pageable);
 
-    List<Course> findByInstructor(Member instructor);
+    // 정원(확보된 좌석 포함)이 남아 있을 때만 수강 인원 1 증가. 반환값(갱신된 행 수)이 0이면 정원 초과.
+    // 신청률은 수강 인원보다 먼저 적어 SET 을 왼쪽부터 적용하는 DB에서도 변경 전 인원으로 계산되게 하고,
+    // 엔티티에서 계산한 값과 비트 단위로 같도록 double 나눗셈으로 계산한다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Course c SET c.enrollmentRate = CAST(c.currentEnrollmentCount + 1 AS Double) / c.maxStudents, " +
+            "c.currentEnrollmentCount = c.currentEnrollmentCount + 1, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.currentEnrollmentCount + c.heldSeatCount < c.maxStudents")
+    int increaseEnrollmentCountIfAvailable(@Param("id") Long id);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT c FROM Course c WHERE c.id = :id")
-    Optional<Course> findByIdWithPessimisticLock(@Param("id") Long id);
+    // 수강 취소용 원자적 감소. 강좌를 먼저 잠그지 않고 row 갱신 한 번으로 처리한다.
+    // 영속성 컨텍스트를 비워 이후 조회가 감소된 값을 읽게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.enrollmentRate = CASE WHEN c.maxStudents > 0 THEN CAST(c.currentEnrollmentCount - 1 AS Double) / c.maxStudents ELSE 0 END, " +
+            "c.currentEnrollmentCount = c.currentEnrollmentCount - 1, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.currentEnrollmentCount > 0")
+    int decreaseEnrollmentCount(@Param("id") Long id);
 }
@@ -1,11 +1,18 @@
 package wb.wolbu.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import wb.wolbu.dto.EnrollmentDTO;
 import wb.wolbu.entity.Course;
 import wb.wolbu.entity.Enrollment;
 import wb.wolbu.entity.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +21,43 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     List<Enrollment> findByCourse(Course course);
     List<Enrollment> findByStudent(Member student);
     Optional<Enrollment> findByStudentAndCourse(Member student, Course course);
+    Optional<Enrollment> findByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    // 강좌 변경용. 취소와 같은 순서(수강 정보 row -> 강좌 row)로 잠그도록 강좌보다 먼저 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.student.id = :studentId AND e.course.id = :courseId")
+    Optional<Enrollment> findByStudentIdAndCourseIdForUpdate(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
+
+    // 목록 응답용 프로젝션. 학생/강좌 이름을 조인해 EnrollmentDTO 로 바로 읽는다 (인자 순서 = EnrollmentDTO 필드 순서)
+    @Query("SELECT new wb.wolbu.dto.EnrollmentDTO(e.id, s.id, s.name, c.id, c.name, e.enrollmentDate) " +
+            "FROM Enrollment e JOIN e.student s JOIN e.course c WHERE s.id = :studentId")
+    List<EnrollmentDTO> findViewsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT new wb.wolbu.dto.EnrollmentDTO(e.id, s.id, s.name, c.id, c.name, e.enrollmentDate) " +
+            "FROM Enrollment e JOIN e.student s JOIN e.course c WHERE c.id = :courseId")
+    List<EnrollmentDTO> findViewsByCourseId(@Param("courseId") Long courseId);
+
+    // 지운 행 수를 돌려준다. 같은 수강 정보를 동시에 취소하면 뒤 요청은 앞 트랜잭션이 끝날 때까지 기다렸다가 0건을 지운다.
+    // 그 사이 강좌 변경으로 다른 강좌로 옮겨진 수강 정보도 지우지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Enrollment e WHERE e.id = :id AND e.course.id = :courseId")
+    int deleteEnrollment(@Param("id") Long id, @Param("courseId") Long courseId);
+
+    // 여러 강좌 일괄 취소용. 학생 본인의 수강 정보 row 만 잠가 같은 취소가 동시에 들어와도 한 번만 지워지게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.student.id = :studentId AND e.course.id IN :courseIds ORDER BY e.course.id")
+    List<Enrollment> findAllByStudentIdAndCourseIdInForUpdate(@Param("studentId") Long studentId, @Param("courseIds") Collection<Long> courseIds);
+
+    // 여러 학생 중 이미 해당 강좌를 수강 중인 학생 ID
+    @Query("SELECT e.student.id FROM Enrollment e WHERE e.course.id = :courseId AND e.student.id IN :studentIds")
+    List<Long> findStudentIdsByCourseIdAndStudentIds(@Param("courseId") Long courseId, @Param("studentIds") Collection<Long> studentIds);
+
+    // 여러 강좌 중 학생이 이미 수강 중인 강좌 ID
+    @Query("SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId AND e.course.id IN :courseIds")
+    List<Long> findCourseIdsByStudentIdAndCourseIds(@Param("studentId") Long studentId, @Param("courseIds") Collection<Long> courseIds);
+
+    // 강좌 삭제 시 수강 정보를 한 번의 DELETE로 정리
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.course = :course")
+    void deleteAllByCourse(@Param("course") Course course);
 }
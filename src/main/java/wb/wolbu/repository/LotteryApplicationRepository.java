@@ -0,0 +1,37 @@
+package wb.wolbu.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.LotteryApplication;
+import wb.wolbu.entity.LotteryResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LotteryApplicationRepository extends JpaRepository<LotteryApplication, Long> {
+    Optional<LotteryApplication> findByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    // 추첨 입력 순서를 고정하기 위해 신청 ID 순으로 조회
+    List<LotteryApplication> findByCourseIdOrderByIdAsc(Long courseId);
+
+    long countByCourseId(Long courseId);
+
+    // 추첨 결과 기록: 전체를 낙첨으로 한 번, 제외된 신청과 당첨자만 다시 한 번씩 갱신
+    @Modifying
+    @Query("UPDATE LotteryApplication a SET a.result = :result WHERE a.course.id = :courseId")
+    int updateResultByCourseId(@Param("courseId") Long courseId, @Param("result") LotteryResult result);
+
+    @Modifying
+    @Query("UPDATE LotteryApplication a SET a.result = :result WHERE a.id IN :ids")
+    int updateResultByIdIn(@Param("ids") Collection<Long> ids, @Param("result") LotteryResult result);
+
+    @Modifying
+    @Query("DELETE FROM LotteryApplication a WHERE a.course = :course")
+    void deleteAllByCourse(@Param("course") Course course);
+}
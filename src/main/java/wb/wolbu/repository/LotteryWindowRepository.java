@@ -0,0 +1,24 @@
+package wb.wolbu.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.LotteryWindow;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LotteryWindowRepository extends JpaRepository<LotteryWindow, Long> {
+    Optional<LotteryWindow> findByCourseId(Long courseId);
+
+    // 아직 추첨하지 않은 기간
+    List<LotteryWindow> findByDrawnAtIsNull();
+
+    @Modifying
+    @Query("DELETE FROM LotteryWindow w WHERE w.course = :course")
+    void deleteAllByCourse(@Param("course") Course course);
+}
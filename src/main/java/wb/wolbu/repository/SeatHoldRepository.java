@@ -0,0 +1,21 @@
+package wb.wolbu.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.SeatHold;
+
+import java.util.Optional;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+    Optional<SeatHold> findByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    // 강좌 삭제 시 확보 좌석을 한 번의 DELETE로 정리
+    @Modifying
+    @Query("DELETE FROM SeatHold h WHERE h.course = :course")
+    void deleteAllByCourse(@Param("course") Course course);
+}
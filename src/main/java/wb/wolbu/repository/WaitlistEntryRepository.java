@@ -0,0 +1,33 @@
+package wb.wolbu.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.WaitlistEntry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    Optional<WaitlistEntry> findByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    // 대기열 맨 앞부터 순서대로
+    List<WaitlistEntry> findByCourseIdOrderByIdAsc(Long courseId);
+
+    Optional<WaitlistEntry> findFirstByCourseIdOrderByIdAsc(Long courseId);
+
+    boolean existsByCourseId(Long courseId);
+
+    @Query("SELECT DISTINCT w.course.id FROM WaitlistEntry w WHERE w.course.id IN :courseIds")
+    List<Long> findCourseIdsWithWaiting(@Param("courseIds") Collection<Long> courseIds);
+
+    // 강좌 삭제 시 대기 정보를 한 번의 DELETE로 정리
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.course = :course")
+    void deleteAllByCourse(@Param("course") Course course);
+}
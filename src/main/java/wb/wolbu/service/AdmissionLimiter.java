@@ -0,0 +1,140 @@
+package wb.wolbu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.exception.custom.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+// 수강 신청 트랜잭션에 들어가기 전 동시 처리 수를 제한한다.
+// 인기 강좌 하나에 몰린 요청이 강좌 락을 기다리며 Tomcat 스레드를 전부 잡아두지 않도록, 한도를 넘는 요청은 기다리지 않고 바로 429로 거절한다.
+// 강좌별 한도는 AIMD 방식으로 조정한다: 처리 시간이 목표보다 길면 0.9배로 줄이고, 한도까지 차서 빠르게 처리되면 조금씩(1/한도) 늘린다.
+@Component
+public class AdmissionLimiter {
+
+    private static final Permit NOOP = new Permit(null, null, 0);
+
+    private final EnrollmentProperties.Admission properties;
+    private final Semaphore globalPermits;
+    private final Cache<Long, CourseLimit> courseLimits;
+    private final Counter courseRejected;
+    private final Counter globalRejected;
+
+    public AdmissionLimiter(EnrollmentProperties enrollmentProperties, MeterRegistry meterRegistry) {
+        this.properties = enrollmentProperties.getAdmission();
+        this.globalPermits = new Semaphore(properties.getGlobalLimit());
+        // 없는 강좌 ID 로 들어온 요청까지 한도를 만들므로, 한동안 신청이 없는 강좌의 한도는 버린다 (다시 오면 시작값부터)
+        this.courseLimits = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedCourses())
+                .expireAfterAccess(Duration.ofMillis(properties.getIdleExpireMs()))
+                .executor(Runnable::run)
+                .build();
+        this.courseRejected = Counter.builder("enrollment.admission.rejected")
+                .description("동시 처리 한도 초과로 거절된 수강 신청 수")
+                .tag("scope", "course")
+                .register(meterRegistry);
+        this.globalRejected = Counter.builder("enrollment.admission.rejected")
+                .description("동시 처리 한도 초과로 거절된 수강 신청 수")
+                .tag("scope", "global")
+                .register(meterRegistry);
+    }
+
+    public Permit acquire(Long courseId) {
+        if (!properties.isEnabled()) {
+            return NOOP;
+        }
+
+        CourseLimit courseLimit = courseLimits.get(courseId, id -> new CourseLimit(properties.getInitialCourseLimit()));
+        if (!courseLimit.tryAcquire()) {
+            courseRejected.increment();
+            throw new TooManyRequestsException("수강 신청이 몰리고 있습니다. 잠시 후 다시 시도해주세요.", properties.getRetryAfterSeconds());
+        }
+        if (!globalPermits.tryAcquire()) {
+            courseLimit.cancel();
+            globalRejected.increment();
+            throw new TooManyRequestsException("수강 신청이 몰리고 있습니다. 잠시 후 다시 시도해주세요.", properties.getRetryAfterSeconds());
+        }
+        return new Permit(this, courseLimit, System.nanoTime());
+    }
+
+    // 현재 강좌 한도 (모니터링/테스트용)
+    int limitOf(Long courseId) {
+        CourseLimit courseLimit = courseLimits.getIfPresent(courseId);
+        return courseLimit == null ? properties.getInitialCourseLimit() : courseLimit.currentLimit();
+    }
+
+    // 한도를 들고 있는 강좌 수 (모니터링/테스트용)
+    long trackedCourses() {
+        courseLimits.cleanUp();
+        return courseLimits.estimatedSize();
+    }
+
+    private void release(CourseLimit courseLimit, long startedAt) {
+        globalPermits.release();
+        long latencyMs = (System.nanoTime() - startedAt) / 1_000_000;
+        courseLimit.release(latencyMs, properties);
+    }
+
+    public static final class Permit implements AutoCloseable {
+        private final AdmissionLimiter limiter;
+        private final CourseLimit courseLimit;
+        private final long startedAt;
+        private boolean released;
+
+        private Permit(AdmissionLimiter limiter, CourseLimit courseLimit, long startedAt) {
+            this.limiter = limiter;
+            this.courseLimit = courseLimit;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void close() {
+            if (limiter == null || released) {
+                return;
+            }
+            released = true;
+            limiter.release(courseLimit, startedAt);
+        }
+    }
+
+    private static class CourseLimit {
+        private double limit;
+        private int inFlight;
+
+        private CourseLimit(int initialLimit) {
+            this.limit = initialLimit;
+        }
+
+        private synchronized boolean tryAcquire() {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        // 전체 한도에 막혀 실제로 처리하지 않은 요청은 응답 시간에 반영하지 않는다
+        private synchronized void cancel() {
+            inFlight--;
+        }
+
+        private synchronized void release(long latencyMs, EnrollmentProperties.Admission properties) {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+            if (latencyMs > properties.getTargetLatencyMs()) {
+                limit = Math.max(properties.getMinCourseLimit(), limit * 0.9);
+            } else if (saturated) {
+                limit = Math.min(properties.getMaxCourseLimit(), limit + 1.0 / limit);
+            }
+        }
+
+        private synchronized int currentLimit() {
+            return (int) limit;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package wb.wolbu.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
+import wb.wolbu.entity.Course;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.repository.CourseRepository;
+
+// 강좌 row에 락을 잡지 않고, 조건부 UPDATE의 갱신 행 수로 좌석 확보 여부를 판단
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public SeatClaimMode mode() {
+        return SeatClaimMode.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public Course claimSeat(Long courseId) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        if (courseRepository.increaseEnrollmentCountIfAvailable(courseId) == 0) {
+            throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
+        }
+        eventPublisher.publishEvent(CourseChangedEvent.updated(courseId));
+        return course;
+    }
+}
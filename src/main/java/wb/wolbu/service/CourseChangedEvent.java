@@ -0,0 +1,13 @@
+package wb.wolbu.service;
+
+// 강좌의 수강 인원/정원 등 목록 정렬에 쓰이는 값이 바뀌었음을 알린다. CourseRanking 이 커밋 후에 받아 반영한다
+public record CourseChangedEvent(Long courseId, Change change) {
+
+    public enum Change {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static CourseChangedEvent updated(Long courseId) {
+        return new CourseChangedEvent(courseId, Change.UPDATED);
+    }
+}
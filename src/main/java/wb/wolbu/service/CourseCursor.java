@@ -0,0 +1,56 @@
+package wb.wolbu.service;
+
+import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.exception.custom.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 강좌 목록 커서: 마지막으로 받은 강좌의 정렬 키와 ID. 클라이언트에는 불투명한 base64 문자열로만 보인다.
+// 신청률은 반올림된 소수 문자열 대신 (수강 인원, 정원)을 담고, 저장된 신청률 컬럼과 같은 방식으로 다시 계산해 비교한다
+record CourseCursor(String sortBy, LocalDateTime createdAt, int enrollmentCount, int maxStudents, long id) {
+
+    private static final String DELIMITER = "|";
+
+    static CourseCursor of(String sortBy, CourseDTO course) {
+        return new CourseCursor(sortBy, course.getCreatedAt(), course.getCurrentEnrollmentCount(), course.getMaxStudents(), course.getId());
+    }
+
+    // Course 에 저장되는 신청률과 같은 계산이어야 경계의 강좌가 빠지거나 중복되지 않는다
+    double enrollmentRate() {
+        return Course.enrollmentRate(enrollmentCount, maxStudents);
+    }
+
+    String encode() {
+        String key = switch (sortBy) {
+            case "recent" -> createdAt.toString();
+            case "popular" -> String.valueOf(enrollmentCount);
+            default -> enrollmentCount + "/" + maxStudents;
+        };
+        String raw = sortBy + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CourseCursor decode(String cursor, String sortBy) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !parts[0].equals(sortBy)) {
+                throw new InvalidInputException("정렬 기준과 맞지 않는 커서입니다.");
+            }
+            long id = Long.parseLong(parts[2]);
+            return switch (sortBy) {
+                case "recent" -> new CourseCursor(sortBy, LocalDateTime.parse(parts[1]), 0, 0, id);
+                case "popular" -> new CourseCursor(sortBy, null, Integer.parseInt(parts[1]), 0, id);
+                default -> {
+                    String[] rate = parts[1].split("/");
+                    yield new CourseCursor(sortBy, null, Integer.parseInt(rate[0]), Integer.parseInt(rate[1]), id);
+                }
+            };
+        } catch (IllegalArgumentException | DateTimeException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidInputException("잘못된 커서입니다.");
+        }
+    }
+}
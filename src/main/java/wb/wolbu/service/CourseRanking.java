@@ -0,0 +1,214 @@
+package wb.wolbu.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.repository.CourseRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+// 인기순/신청률순 강좌 목록 상위 N개를 (점수, ID) 순 정렬 집합으로 메모리에 들고 있어, 앞쪽 페이지는 SQL 없이 응답한다.
+// 강좌 변경은 커밋 후 이벤트로 모아 두었다가 짧은 주기로 바뀐 강좌만 다시 읽어 반영하고(최대 refresh-interval-ms 만큼 늦을 수 있다),
+// 상위 N개에 들지 못한 강좌가 올라오는 경우까지 맞추기 위해 시작 시와 주기적으로 DB에서 다시 만든다.
+@Slf4j
+@Component
+public class CourseRanking {
+
+    public enum Type {
+        POPULAR, ENROLLMENT_RATE
+    }
+
+    private static final Map<Type, ToDoubleFunction<CourseDTO>> SCORES = Map.of(
+            Type.POPULAR, CourseDTO::getCurrentEnrollmentCount,
+            Type.ENROLLMENT_RATE, course -> Course.enrollmentRate(course.getCurrentEnrollmentCount(), course.getMaxStudents()));
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentProperties.Ranking properties;
+
+    // 읽는 쪽은 항상 한 시점의 순위 전체를 본다. 재구성/갱신은 새 순위를 옆에서 만든 뒤 이 참조 하나만 바꾼다
+    private volatile Snapshot current;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicLong totalCourses = new AtomicLong();
+
+    public CourseRanking(CourseRepository courseRepository, EnrollmentProperties enrollmentProperties) {
+        this.courseRepository = courseRepository;
+        this.properties = enrollmentProperties.getRanking();
+    }
+
+    // 메모리에 있는 범위의 페이지면 응답하고, 더 깊은 페이지면 비워서 돌려준다 (호출자가 DB로 조회)
+    public Optional<Page<CourseDTO>> page(Type type, Pageable pageable) {
+        Snapshot snapshot = current;
+        if (!properties.isEnabled() || snapshot == null) {
+            return Optional.empty();
+        }
+        List<Long> ids = snapshot.boards().get(type).page((int) pageable.getOffset(), pageable.getPageSize());
+        if (ids == null) {
+            return Optional.empty();
+        }
+
+        List<CourseDTO> content = ids.stream().map(snapshot.courses()::get).toList();
+        return Optional.of(new PageImpl<>(content, pageable, totalCourses.get()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        switch (event.change()) {
+            case CREATED -> totalCourses.incrementAndGet();
+            case DELETED -> totalCourses.decrementAndGet();
+            default -> {
+            }
+        }
+        dirty.add(event.courseId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${enrollment.ranking.rebuild-interval-ms:60000}", initialDelayString = "${enrollment.ranking.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        PageRequest top = PageRequest.of(0, properties.getDepth());
+        Map<Type, List<CourseDTO>> courses = Map.of(
+                Type.POPULAR, courseRepository.findPopularFirst(top),
+                Type.ENROLLMENT_RATE, courseRepository.findEnrollmentRateFirst(top));
+        long total = courseRepository.count();
+
+        Map<Type, Board> boards = new EnumMap<>(Type.class);
+        Map<Long, CourseDTO> loaded = new HashMap<>();
+        courses.forEach((type, list) -> {
+            boards.put(type, Board.of(SCORES.get(type), list, total <= properties.getDepth()));
+            list.forEach(course -> loaded.put(course.getId(), course));
+        });
+        totalCourses.set(total);
+        current = new Snapshot(boards, loaded);
+        log.debug("강좌 랭킹 재구성 - 전체 {}개, 상위 {}개", total, properties.getDepth());
+    }
+
+    // 바뀐 강좌만 한 번의 IN 쿼리로 다시 읽어 순위를 고친다
+    @Scheduled(fixedDelayString = "${enrollment.ranking.refresh-interval-ms:200}")
+    public synchronized void refresh() {
+        if (!properties.isEnabled() || current == null || dirty.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+
+        Map<Long, CourseDTO> courses = new HashMap<>();
+        courseRepository.findViewsByIdIn(ids).forEach(course -> courses.put(course.getId(), course));
+        // 한 번의 갱신분을 복사본에 모두 반영한 뒤 바꿔 끼운다 (상위 N개 정도라 복사 비용은 작다)
+        Snapshot next = current.copy();
+        for (Long id : ids) {
+            CourseDTO course = courses.get(id);
+            if (course == null) {
+                next.boards().values().forEach(board -> board.remove(id));
+                continue;
+            }
+            next.courses().put(id, course);
+            next.boards().values().forEach(board -> board.update(course, properties.getDepth()));
+        }
+        // 어느 순위에도 남지 않은 강좌(삭제되었거나 상위권 밖으로 밀려난 강좌)의 스냅샷은 버린다
+        next.courses().keySet().removeIf(id -> next.boards().values().stream().noneMatch(board -> board.contains(id)));
+        current = next;
+    }
+
+    // 공개된 뒤에는 바꾸지 않는다. 갱신은 copy() 로 만든 새 인스턴스에서 한다
+    private record Snapshot(Map<Type, Board> boards, Map<Long, CourseDTO> courses) {
+        private Snapshot copy() {
+            Map<Type, Board> boards = new EnumMap<>(Type.class);
+            this.boards.forEach((type, board) -> boards.put(type, board.copy()));
+            return new Snapshot(boards, new HashMap<>(courses));
+        }
+    }
+
+    private record Entry(double score, long id) {
+        // 점수 내림차순, 같으면 ID 내림차순 (DB 목록 쿼리와 같은 순서)
+        private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+                .thenComparing(Comparator.comparingLong(Entry::id).reversed());
+    }
+
+    // 한 정렬 기준의 상위 강좌. complete 이면 전체 강좌가 들어 있어 어느 페이지든 응답할 수 있다
+    private static class Board {
+        private final ToDoubleFunction<CourseDTO> score;
+        private final TreeSet<Entry> entries;
+        private final Map<Long, Entry> byId;
+        private boolean complete;
+
+        private Board(ToDoubleFunction<CourseDTO> score, TreeSet<Entry> entries, Map<Long, Entry> byId, boolean complete) {
+            this.score = score;
+            this.entries = entries;
+            this.byId = byId;
+            this.complete = complete;
+        }
+
+        private static Board of(ToDoubleFunction<CourseDTO> score, List<CourseDTO> courses, boolean complete) {
+            Board board = new Board(score, new TreeSet<>(Entry.ORDER), new HashMap<>(), complete);
+            for (CourseDTO course : courses) {
+                Entry entry = new Entry(score.applyAsDouble(course), course.getId());
+                board.entries.add(entry);
+                board.byId.put(entry.id(), entry);
+            }
+            return board;
+        }
+
+        private Board copy() {
+            return new Board(score, new TreeSet<>(entries), new HashMap<>(byId), complete);
+        }
+
+        private void update(CourseDTO course, int depth) {
+            remove(course.getId());
+            Entry entry = new Entry(score.applyAsDouble(course), course.getId());
+            // 목록 밖의 강좌는 꼴찌보다 앞설 때만 들어올 수 있다. 그 사이에 목록 밖의 다른 강좌가 있을 수 있기 때문
+            boolean fits = complete || (!entries.isEmpty() && Entry.ORDER.compare(entry, entries.last()) < 0);
+            if (!fits) {
+                return;
+            }
+            entries.add(entry);
+            byId.put(entry.id(), entry);
+            if (entries.size() > depth) {
+                Entry last = entries.pollLast();
+                byId.remove(last.id());
+                complete = false;
+            }
+        }
+
+        private void remove(long id) {
+            Entry entry = byId.remove(id);
+            if (entry != null) {
+                entries.remove(entry);
+            }
+        }
+
+        private boolean contains(long id) {
+            return byId.containsKey(id);
+        }
+
+        // 목록이 전체가 아니면, 요청한 페이지가 들고 있는 범위 안에 완전히 들어올 때만 응답한다
+        private List<Long> page(int offset, int size) {
+            if (!complete && offset + size > entries.size()) {
+                return null;
+            }
+            return entries.stream().skip(offset).limit(size).map(Entry::id).toList();
+        }
+    }
+}
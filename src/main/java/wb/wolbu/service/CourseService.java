@@ -5,16 +5,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.dto.CourseSliceDTO;
 import wb.wolbu.dto.UpdateCourseRequest;
 import wb.wolbu.entity.Course;
 import wb.wolbu.entity.Enrollment;
 import wb.wolbu.entity.Member;
 import wb.wolbu.entity.MemberType;
 import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.InvalidInputException;
 import wb.wolbu.repository.CourseRepository;
 import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.LotteryApplicationRepository;
+import wb.wolbu.repository.LotteryWindowRepository;
 import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.repository.SeatHoldRepository;
+import wb.wolbu.repository.WaitlistEntryRepository;
+import wb.wolbu.util.AfterCommit;
 
 import java.util.List;
 
@@ -26,6 +35,14 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final MemberRepository memberRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final LotteryApplicationRepository lotteryApplicationRepository;
+    private final LotteryWindowRepository lotteryWindowRepository;
+    private final CourseRanking courseRanking;
+    private final CourseViewCache courseViewCache;
+
+    private static final int MAX_SCROLL_SIZE = 100;
 
     public Course createCourse(Long instructorId, String name, Integer maxStudents, Integer price) {
         Member instructor = memberRepository.findById(instructorId)
@@ -39,30 +56,66 @@ public class CourseService {
         return courseRepository.save(course);
     }
 
-    @Transactional(readOnly = true)
-    public Page<Course> getCourses(int page, int size, String sortBy){
+    // 인기순/신청률순 앞쪽 페이지는 인메모리 랭킹에서 바로 응답하고, 랭킹 밖의 깊은 페이지만 DB에서 정렬한다.
+    // 랭킹에서 응답할 때는 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<CourseDTO> getCourses(int page, int size, String sortBy){
         PageRequest pageRequest = PageRequest.of(page, size);
 
         return switch (sortBy) {
-            case "recent" -> courseRepository.findAllByOrderByCreatedAtDesc(pageRequest);
-            case "popular" -> courseRepository.findAllByOrderByCurrentEnrollmentCountDesc(pageRequest);
-            case "highEnrollmentRate" -> courseRepository.findAllOrderByEnrollmentRateDesc(pageRequest);
+            case "recent" -> courseRepository.findRecentViews(pageRequest);
+            case "popular" -> courseRanking.page(CourseRanking.Type.POPULAR, pageRequest)
+                    .orElseGet(() -> courseRepository.findPopularViews(pageRequest));
+            case "highEnrollmentRate" -> courseRanking.page(CourseRanking.Type.ENROLLMENT_RATE, pageRequest)
+                    .orElseGet(() -> courseRepository.findEnrollmentRateViews(pageRequest));
             default -> throw new IllegalArgumentException("Invalid sortBy parameter: " + sortBy);
         };
     }
 
+    // 다음 페이지 유무는 한 건 더 읽어서 판단한다
     @Transactional(readOnly = true)
-    public Course getCourseById(Long courseId){
-        return courseRepository.findById(courseId)
+    public CourseSliceDTO scrollCourses(String cursor, int size, String sortBy) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new InvalidInputException("size 는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다.");
+        }
+        PageRequest limit = PageRequest.of(0, size + 1);
+        CourseCursor after = cursor == null || cursor.isBlank() ? null : CourseCursor.decode(cursor, sortBy);
+
+        List<CourseDTO> courses = switch (sortBy) {
+            case "recent" -> after == null
+                    ? courseRepository.findRecentFirst(limit)
+                    : courseRepository.findRecentAfter(after.createdAt(), after.id(), limit);
+            case "popular" -> after == null
+                    ? courseRepository.findPopularFirst(limit)
+                    : courseRepository.findPopularAfter(after.enrollmentCount(), after.id(), limit);
+            case "highEnrollmentRate" -> after == null
+                    ? courseRepository.findEnrollmentRateFirst(limit)
+                    : courseRepository.findEnrollmentRateAfter(after.enrollmentRate(), after.id(), limit);
+            default -> throw new IllegalArgumentException("Invalid sortBy parameter: " + sortBy);
+        };
+
+        boolean hasNext = courses.size() > size;
+        List<CourseDTO> page = hasNext ? courses.subList(0, size) : courses;
+        return CourseSliceDTO.builder()
+                .content(page)
+                .nextCursor(hasNext ? CourseCursor.of(sortBy, page.get(size - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 캐시 미스일 때만 저장소 조회가 자체 읽기 트랜잭션을 연다
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CourseDTO getCourseById(Long courseId){
+        return courseViewCache.get(courseId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
     }
 
     @Transactional(readOnly = true)
-    public List<Course> getInstructorCourses(Long instructorId){
-        Member instructor = memberRepository.findById(instructorId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 강사를 찾을 수 없습니다. id=" + instructorId));
-
-        return courseRepository.findByInstructor(instructor);
+    public List<CourseDTO> getInstructorCourses(Long instructorId){
+        if (!memberRepository.existsById(instructorId)) {
+            throw new EntityNotFoundException("해당 강사를 찾을 수 없습니다. id=" + instructorId);
+        }
+        return courseRepository.findViewsByInstructorId(instructorId);
     }
 
     @Transactional(readOnly = true)
@@ -76,20 +129,28 @@ public class CourseService {
                 .toList();
     }
 
+    // 수강 신청도 강좌 row 를 갱신하며 @Version 을 올리므로, 락 없이 읽으면 flush 때 버전 충돌로 실패한다. 신청과 같은 row 락으로 순서를 맞춘다
     public Course updateCourse(Long courseId, UpdateCourseRequest request) {
-        Course course = courseRepository.findById(courseId)
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
 
         // TODO: 권한 체크 필요
 
         course.update(request.getName(), request.getMaxStudents(), request.getPrice());
+        // 이름/가격 변경은 stale-while-revalidate 모드에서도 이전 값을 응답하지 않도록 바로 지운다
+        AfterCommit.run(() -> courseViewCache.invalidate(courseId));
         return courseRepository.save(course);
     }
 
     public void deleteCourse(Long courseId) {
-        Course course = courseRepository.findById(courseId)
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
         // TODO: 권한 체크 필요
+        enrollmentRepository.deleteAllByCourse(course);
+        waitlistEntryRepository.deleteAllByCourse(course);
+        seatHoldRepository.deleteAllByCourse(course);
+        lotteryApplicationRepository.deleteAllByCourse(course);
+        lotteryWindowRepository.deleteAllByCourse(course);
         courseRepository.delete(course);
     }
 }
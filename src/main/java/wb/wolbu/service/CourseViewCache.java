@@ -0,0 +1,67 @@
+package wb.wolbu.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.service.CourseChangedEvent.Change;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 강좌 상세 조회 응답(강사 이름까지 채운 CourseDTO)을 강좌 ID 별로 캐시한다. 처음 조회할 때 강사 이름까지 프로젝션 쿼리 한 번으로 읽어 넣는다.
+// 변경이 커밋되면 CourseChangedEvent 로 항목을 지우고, stale-while-revalidate 모드에서는 수강 인원 변경 시 이전 값을 응답하며 다시 읽는다.
+// 적중/미스/제거 수는 cache.gets, cache.evictions 등 (cache=course.view) 으로 수집된다
+@Component
+public class CourseViewCache {
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentProperties.CourseCache properties;
+    private final LoadingCache<Long, CourseDTO> cache;
+
+    public CourseViewCache(CourseRepository courseRepository, EnrollmentProperties enrollmentProperties, MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+        this.properties = enrollmentProperties.getCourseCache();
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+                .recordStats();
+        if (properties.isStaleWhileRevalidate()) {
+            builder.refreshAfterWrite(Duration.ofMillis(properties.getRefreshAfterMs()));
+        }
+        this.cache = builder.build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "course.view");
+    }
+
+    public Optional<CourseDTO> get(Long courseId) {
+        if (!properties.isEnabled()) {
+            return Optional.ofNullable(load(courseId));
+        }
+        // 없는 강좌는 캐시하지 않는다
+        return Optional.ofNullable(cache.get(courseId));
+    }
+
+    public void invalidate(Long courseId) {
+        cache.invalidate(courseId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        Long courseId = event.courseId();
+        if (event.change() == Change.UPDATED && properties.isStaleWhileRevalidate() && cache.asMap().containsKey(courseId)) {
+            cache.refresh(courseId);
+            return;
+        }
+        cache.invalidate(courseId);
+    }
+
+    private CourseDTO load(Long courseId) {
+        return courseRepository.findViewById(courseId).orElse(null);
+    }
+}
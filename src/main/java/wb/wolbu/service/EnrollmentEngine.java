@@ -0,0 +1,413 @@
+package wb.wolbu.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.EnrollmentDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.EnrollmentPendingException;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// courseId 해시로 고정된 단일 스레드 워커에 수강 신청/취소 명령을 배정한다.
+// 같은 강좌의 명령은 한 워커에서 순서대로 처리되므로 락 경합 대신 크기를 정할 수 있는 대기열이 생기고,
+// 서로 다른 강좌는 워커 수만큼 병렬로 처리된다. 워커는 대기열에 쌓인 명령을 작은 그룹 단위로 한 번에 커밋하고,
+// 같은 강좌의 신청은 카운터 UPDATE 1번과 배치 INSERT 1번으로 묶어서 기록한다(group commit).
+@Slf4j
+@Component
+public class EnrollmentEngine {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final MemberRepository memberRepository;
+    private final WaitlistService waitlistService;
+    private final TransactionTemplate transactionTemplate;
+    private final EnrollmentProperties.Engine properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer commandTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private final List<Worker> workers = new ArrayList<>();
+
+    public EnrollmentEngine(EnrollmentRepository enrollmentRepository,
+                            CourseRepository courseRepository,
+                            MemberRepository memberRepository,
+                            WaitlistService waitlistService,
+                            PlatformTransactionManager transactionManager,
+                            EnrollmentProperties enrollmentProperties,
+                            MeterRegistry meterRegistry) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseRepository = courseRepository;
+        this.memberRepository = memberRepository;
+        this.waitlistService = waitlistService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = enrollmentProperties.getEngine();
+        this.meterRegistry = meterRegistry;
+        this.commandTimer = Timer.builder("enrollment.engine.command")
+                .description("명령 접수부터 커밋 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("enrollment.engine.batch.size")
+                .description("한 번에 커밋된 명령 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            Worker worker = new Worker(i, new LinkedBlockingQueue<>(properties.getQueueCapacity()));
+            Gauge.builder("enrollment.engine.queue.size", worker.queue, BlockingQueue::size)
+                    .tag("worker", String.valueOf(i))
+                    .register(meterRegistry);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("수강 신청 엔진 시작 - 워커 수: {}", workers.size());
+    }
+
+    // 워커를 멈추고, 대기열에 남았거나 모으던 중이던 명령은 재시도할 수 있는 오류로 끝낸다.
+    // 그러지 않으면 호출자는 결과 대기 시간이 다 지나도록 기다리고, 비동기 티켓은 PENDING 으로 남는다
+    @PreDestroy
+    public void stop() {
+        workers.forEach(Worker::shutdown);
+    }
+
+    public boolean isEnabled() {
+        return !workers.isEmpty();
+    }
+
+    public CompletableFuture<EnrollmentDTO> submitEnroll(Long studentId, Long courseId) {
+        return submit(new Command(CommandType.ENROLL, studentId, courseId));
+    }
+
+    public CompletableFuture<EnrollmentDTO> submitCancel(Long studentId, Long courseId) {
+        return submit(new Command(CommandType.CANCEL, studentId, courseId));
+    }
+
+    public EnrollmentDTO enrollCourse(Long studentId, Long courseId) {
+        return await(submitEnroll(studentId, courseId));
+    }
+
+    public void cancelEnrollment(Long studentId, Long courseId) {
+        await(submitCancel(studentId, courseId));
+    }
+
+    private CompletableFuture<EnrollmentDTO> submit(Command command) {
+        if (workers.isEmpty()) {
+            throw new IllegalStateException("수강 신청 엔진이 비활성화 상태입니다.");
+        }
+        Worker worker = workers.get(Math.floorMod(Long.hashCode(command.courseId), workers.size()));
+        if (worker.stopped) {
+            throw stoppedException();
+        }
+        if (!worker.queue.offer(command)) {
+            throw new ServiceUnavailableException("수강 신청 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 워커가 마지막으로 대기열을 비운 뒤에 들어온 명령
+        if (worker.stopped) {
+            worker.rejectPending();
+        }
+        return command.result;
+    }
+
+    private EnrollmentDTO await(CompletableFuture<EnrollmentDTO> future) {
+        try {
+            return future.get(properties.getResultTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new EnrollmentPendingException("수강 신청 처리 시간이 초과되었습니다. 신청 결과를 다시 확인해주세요.", future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EnrollmentPendingException("수강 신청 처리가 중단되었습니다. 신청 결과를 다시 확인해주세요.", future);
+        }
+    }
+
+    // 그룹을 한 트랜잭션으로 커밋하고, 예기치 못한 오류로 실패하면 명령별 트랜잭션으로 다시 처리
+    private void process(List<Command> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            Map<Command, Outcome> outcomes = transactionTemplate.execute(status -> applyAll(batch));
+            batch.forEach(command -> complete(command, outcomes.get(command)));
+        } catch (RuntimeException e) {
+            log.warn("그룹 커밋 실패, 명령별로 다시 처리 - 건수: {}", batch.size(), e);
+            for (Command command : batch) {
+                try {
+                    complete(command, transactionTemplate.execute(status -> apply(command)));
+                } catch (DataIntegrityViolationException ex) {
+                    // 엔진 밖 경로에서 같은 학생이 먼저 신청해 유니크 제약에 걸린 경우
+                    complete(command, new Outcome(null, new BusinessLogicException("이미 수강 중인 강좌입니다.")));
+                } catch (RuntimeException ex) {
+                    command.result.completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    // 강좌별로 명령을 모아, 연속된 신청은 한 번에 기록하고 취소는 순서대로 하나씩 처리
+    private Map<Command, Outcome> applyAll(List<Command> batch) {
+        Map<Command, Outcome> outcomes = new HashMap<>();
+        Map<Long, List<Command>> commandsByCourse = batch.stream()
+                .collect(Collectors.groupingBy(command -> command.courseId, LinkedHashMap::new, Collectors.toList()));
+
+        commandsByCourse.forEach((courseId, commands) -> {
+            List<Command> enrolls = new ArrayList<>();
+            for (Command command : commands) {
+                if (command.type == CommandType.ENROLL) {
+                    enrolls.add(command);
+                    continue;
+                }
+                // 취소 전에 쌓인 신청을 먼저 반영해 요청 순서를 지킨다
+                applyEnrolls(courseId, enrolls, outcomes);
+                outcomes.put(command, apply(command));
+            }
+            applyEnrolls(courseId, enrolls, outcomes);
+        });
+        return outcomes;
+    }
+
+    private void applyEnrolls(Long courseId, List<Command> enrolls, Map<Command, Outcome> outcomes) {
+        if (enrolls.size() == 1 || (!enrolls.isEmpty() && !properties.isGroupCommit())) {
+            enrolls.forEach(command -> outcomes.put(command, apply(command)));
+        } else if (!enrolls.isEmpty()) {
+            groupEnroll(courseId, enrolls, outcomes);
+        }
+        enrolls.clear();
+    }
+
+    // 같은 강좌 신청 여러 건: 조회는 IN 쿼리로 모으고, 카운터 UPDATE 1번 + 배치 INSERT로 기록
+    private void groupEnroll(Long courseId, List<Command> commands, Map<Command, Outcome> outcomes) {
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId).orElse(null);
+        if (course == null) {
+            commands.forEach(command -> outcomes.put(command,
+                    new Outcome(null, new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId))));
+            return;
+        }
+
+        List<Long> studentIds = commands.stream().map(command -> command.studentId).distinct().toList();
+        Map<Long, Member> students = memberRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Set<Long> enrolledStudentIds = new HashSet<>(enrollmentRepository.findStudentIdsByCourseIdAndStudentIds(courseId, studentIds));
+        int remainingSeats = course.getRemainingSeats();
+
+        List<Command> accepted = new ArrayList<>();
+        for (Command command : commands) {
+            if (!students.containsKey(command.studentId)) {
+                outcomes.put(command, new Outcome(null,
+                        new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + command.studentId)));
+            } else if (enrolledStudentIds.contains(command.studentId)) {
+                outcomes.put(command, new Outcome(null, new BusinessLogicException("이미 수강 중인 강좌입니다.")));
+            } else if (accepted.size() >= remainingSeats) {
+                outcomes.put(command, new Outcome(null, new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.")));
+            } else {
+                enrolledStudentIds.add(command.studentId);
+                accepted.add(command);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        course.increaseEnrollmentCount(accepted.size());
+
+        // 시퀀스로 ID가 미리 할당되므로 hibernate.jdbc.batch_size 단위의 배치 INSERT로 나간다
+        List<Enrollment> enrollments = enrollmentRepository.saveAll(accepted.stream()
+                .map(command -> new Enrollment(students.get(command.studentId), course))
+                .toList());
+        for (int i = 0; i < accepted.size(); i++) {
+            outcomes.put(accepted.get(i), new Outcome(EnrollmentDTO.from(enrollments.get(i)), null));
+        }
+    }
+
+    // 업무 규칙 위반은 트랜잭션을 롤백시키지 않고 해당 명령의 실패로만 기록
+    private Outcome apply(Command command) {
+        try {
+            EnrollmentDTO value = command.type == CommandType.ENROLL ? enroll(command) : cancel(command);
+            return new Outcome(value, null);
+        } catch (BusinessLogicException | EntityNotFoundException e) {
+            return new Outcome(null, e);
+        }
+    }
+
+    private EnrollmentDTO enroll(Command command) {
+        Member student = memberRepository.findById(command.studentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + command.studentId));
+
+        // 같은 강좌는 이 워커만 처리하므로 락 경합은 없지만, 다른 경로(여러 강좌 동시 신청 등)와의 정합성을 위해 락은 유지
+        Course course = courseRepository.findByIdWithPessimisticLock(command.courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + command.courseId));
+
+        if (enrollmentRepository.findByStudentAndCourse(student, course).isPresent()) {
+            throw new BusinessLogicException("이미 수강 중인 강좌입니다.");
+        }
+
+        course.increaseEnrollmentCount();
+        Enrollment enrollment = enrollmentRepository.save(new Enrollment(student, course));
+        return EnrollmentDTO.from(enrollment);
+    }
+
+    private EnrollmentDTO cancel(Command command) {
+        Member student = memberRepository.findById(command.studentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + command.studentId));
+
+        Course course = courseRepository.findByIdWithPessimisticLock(command.courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + command.courseId));
+
+        Enrollment enrollment = enrollmentRepository.findByStudentAndCourse(student, course)
+                .orElseThrow(() -> new BusinessLogicException("해당 강좌를 수강 중이 아닙니다."));
+
+        course.decreaseEnrollmentCount();
+        enrollmentRepository.delete(enrollment);
+        waitlistService.promoteNext(course);
+        return EnrollmentDTO.from(enrollment);
+    }
+
+    private void complete(Command command, Outcome outcome) {
+        commandTimer.record(System.nanoTime() - command.submittedAt, TimeUnit.NANOSECONDS);
+        if (outcome.error != null) {
+            command.result.completeExceptionally(outcome.error);
+        } else {
+            command.result.complete(outcome.value);
+        }
+    }
+
+    private static ServiceUnavailableException stoppedException() {
+        return new ServiceUnavailableException("수강 신청 엔진이 종료 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private enum CommandType {
+        ENROLL, CANCEL
+    }
+
+    private static class Command {
+        private final CommandType type;
+        private final Long studentId;
+        private final Long courseId;
+        private final long submittedAt = System.nanoTime();
+        private final CompletableFuture<EnrollmentDTO> result = new CompletableFuture<>();
+
+        private Command(CommandType type, Long studentId, Long courseId) {
+            this.type = type;
+            this.studentId = studentId;
+            this.courseId = courseId;
+        }
+    }
+
+    private static class Outcome {
+        private final EnrollmentDTO value;
+        private final RuntimeException error;
+
+        private Outcome(EnrollmentDTO value, RuntimeException error) {
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+    private class Worker extends Thread {
+        private final BlockingQueue<Command> queue;
+        private volatile boolean stopped;
+
+        private Worker(int index, BlockingQueue<Command> queue) {
+            super("enrollment-engine-" + index);
+            this.queue = queue;
+            setDaemon(true);
+        }
+
+        private void shutdown() {
+            stopped = true;
+            interrupt();
+        }
+
+        // 처리되지 못한 명령을 재시도할 수 있는 오류로 끝낸다
+        private void rejectPending() {
+            List<Command> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            reject(pending);
+        }
+
+        private void reject(List<Command> commands) {
+            commands.forEach(command -> command.result.completeExceptionally(stoppedException()));
+        }
+
+        @Override
+        public void run() {
+            try {
+                // 처리 도중 인터럽트 표시가 지워질 수 있으므로 stopped 도 함께 확인
+                while (!stopped && !isInterrupted()) {
+                    List<Command> batch = new ArrayList<>();
+                    try {
+                        Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                        if (first == null) {
+                            continue;
+                        }
+                        batch.add(first);
+                        collectBatch(batch);
+                        process(batch);
+                    } catch (InterruptedException e) {
+                        reject(batch);
+                        return;
+                    } catch (RuntimeException e) {
+                        log.error("수강 신청 엔진 워커 오류", e);
+                    }
+                }
+            } finally {
+                rejectPending();
+            }
+        }
+
+        // 최대 그룹 크기가 찰 때까지, 또는 linger 시간이 지날 때까지 명령을 모은다
+        private void collectBatch(List<Command> batch) throws InterruptedException {
+            int maxBatchSize = properties.getMaxBatchSize();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getLingerMs());
+
+            while (batch.size() < maxBatchSize) {
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= maxBatchSize || remaining <= 0) {
+                    break;
+                }
+                Command next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        }
+    }
+}
@@ -1,24 +1,33 @@
 package wb.wolbu.service;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import wb.wolbu.dto.EnrollmentDTO;
 import wb.wolbu.dto.EnrollmentResult;
 import wb.wolbu.entity.Course;
 import wb.wolbu.entity.Enrollment;
 import wb.wolbu.entity.Member;
 import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.InvalidInputException;
 import wb.wolbu.repository.CourseRepository;
 import wb.wolbu.repository.EnrollmentRepository;
 import wb.wolbu.repository.MemberRepository;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,30 +37,20 @@ public class EnrollmentService {
     private final EnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
     private final MemberRepository memberRepository;
+    private final SeatClaimStrategies seatClaimStrategies;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 좌석 확보 방식(비관적 락/낙관적 락/조건부 UPDATE)은 강좌별 설정에 따라 고른다.
+    // 낙관적 방식의 충돌 재시도는 트랜잭션 밖에서 SeatClaimStrategy.execute 로 감싸야 한다 (EnrollmentFacade)
     @Transactional
     public Enrollment enrollCourse(Long studentId, Long courseId) {
         try {
             Member student = memberRepository.findById(studentId)
                     .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
 
-            Course course = courseRepository.findByIdWithPessimisticLock(courseId)
-                    .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
-
-            if (enrollmentRepository.findByStudentAndCourse(student, course).isPresent()) {
-                throw new BusinessLogicException("이미 수강 중인 강좌입니다.");
-            }
-
-            if (!course.canEnroll()) {
-                throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
-            }
-
-            Enrollment enrollment = new Enrollment(student, course);
-            course.addEnrollment(enrollment);
-            enrollmentRepository.save(enrollment);
-            courseRepository.save(course);
-
-            return enrollment;
+            Course course = seatClaimStrategies.forCourse(courseId).claimSeat(courseId);
+            return insertEnrollment(new Enrollment(student, course));
 
         } catch (Exception e) {
             System.out.println("This is e: "+e.getMessage());
@@ -59,54 +58,149 @@ public class EnrollmentService {
         }
     }
 
+    // 중복 여부를 미리 조회하지 않고 바로 INSERT(강좌 변경은 UPDATE) 한다.
+    // (member_id, course_id) 유니크 제약 위반이면 중복 신청이고, 예외가 트랜잭션을 롤백시키므로 올려둔 수강 인원도 함께 되돌아간다
+    private Enrollment insertEnrollment(Enrollment enrollment) {
+        try {
+            return enrollmentRepository.saveAndFlush(enrollment);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException("이미 수강 중인 강좌입니다.");
+        }
+    }
+
+    // 장바구니 일괄 신청: 강좌 조회/락은 IN 쿼리 한 번(ID 오름차순), 수강 정보는 배치 INSERT 한 번으로 처리하고
+    // 강좌별 성공/실패는 요청 순서대로 돌려준다
     public List<EnrollmentResult> enrollMultipleCourses(Long studentId, List<Long> courseIds) {
         Member student = memberRepository.findById(studentId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
 
+        List<Long> distinctCourseIds = courseIds.stream().distinct().sorted().toList();
+        Map<Long, Course> courses = courseRepository.findAllByIdInWithPessimisticLock(distinctCourseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        // 강좌 락을 잡은 뒤에 조회하므로 다른 신청과 경합하지 않는다
+        Set<Long> enrolledCourseIds = new HashSet<>(enrollmentRepository.findCourseIdsByStudentIdAndCourseIds(studentId, distinctCourseIds));
+
         List<EnrollmentResult> results = new ArrayList<>();
+        List<Enrollment> enrollments = new ArrayList<>();
 
         for (Long courseId : courseIds){
-            try {
-                Enrollment enrollment = enrollCourse(studentId, courseId);
+            Course course = courses.get(courseId);
+            if (course == null) {
+                results.add(new EnrollmentResult(courseId, false, "해당 강좌를 찾을 수 없습니다."));
+            } else if (!enrolledCourseIds.add(courseId)) {
+                results.add(new EnrollmentResult(courseId, false, "이미 수강 중인 강좌입니다."));
+            } else if (!course.canEnroll()) {
+                results.add(new EnrollmentResult(courseId, false, "수강 신청 인원이 꽉 찼습니다."));
+            } else {
+                course.increaseEnrollmentCount();
+                enrollments.add(new Enrollment(student, course));
                 results.add(new EnrollmentResult(courseId, true, null));
-            } catch (BusinessLogicException e) {
-                results.add(new EnrollmentResult(courseId, false, e.getMessage()));
             }
         }
 
+        enrollmentRepository.saveAll(enrollments);
         return results;
     }
 
+    // 취소가 몰리는 환불 마감 직전에도 강좌 락 경합을 늘리지 않도록 강좌를 먼저 잠그지 않는다.
+    // 수강 정보 DELETE 의 삭제 건수로 중복 취소를 거르고, 수강 인원은 같은 트랜잭션에서 원자적 UPDATE 로 줄인다
     public Enrollment cancelEnrollment(Long studentId, Long courseId) {
-        Member student = memberRepository.findById(studentId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
+        Enrollment enrollment = enrollmentRepository.findByStudentIdAndCourseId(studentId, courseId)
+                .orElseThrow(() -> new BusinessLogicException("해당 강좌를 수강 중이 아닙니다."));
+
+        if (enrollmentRepository.deleteEnrollment(enrollment.getId(), courseId) == 0) {
+            throw new BusinessLogicException("해당 강좌를 수강 중이 아닙니다.");
+        }
+        courseRepository.decreaseEnrollmentCount(courseId);
+        // 벌크 UPDATE 는 엔티티 콜백을 거치지 않으므로 랭킹 갱신 이벤트를 직접 보낸다
+        eventPublisher.publishEvent(CourseChangedEvent.updated(courseId));
+
+        // 위 UPDATE 로 이 트랜잭션이 강좌 row 락을 이미 쥐고 있으므로, 대기자가 있을 때만 강좌를 읽어 승격한다
+        if (waitlistService.hasWaiting(courseId)) {
+            courseRepository.findById(courseId).ifPresent(waitlistService::promoteNext);
+        }
+
+        return enrollment;
+    }
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+    // 강좌 변경(A 취소 + B 신청)을 한 트랜잭션에서 처리한다. 두 강좌를 ID 오름차순으로 함께 잠그고 수강 정보의 강좌만 바꾸므로,
+    // 중간에 두 좌석을 모두 잃는 순간이 없고 B가 꽉 찼거나 이미 수강 중이면 A 수강도 그대로 남는다.
+    // 취소는 수강 정보 row 를 지운 뒤 강좌 row 를 갱신하므로, 교착 상태가 생기지 않도록 여기서도 수강 정보 row 를 먼저 잠근다
+    public Enrollment swapCourse(Long studentId, Long fromCourseId, Long toCourseId) {
+        if (fromCourseId.equals(toCourseId)) {
+            throw new InvalidInputException("같은 강좌로는 변경할 수 없습니다.");
+        }
 
-        Enrollment enrollment = enrollmentRepository.findByStudentAndCourse(student, course)
+        Enrollment enrollment = enrollmentRepository.findByStudentIdAndCourseIdForUpdate(studentId, fromCourseId)
                 .orElseThrow(() -> new BusinessLogicException("해당 강좌를 수강 중이 아닙니다."));
 
-        course.removeEnrollment(enrollment);
-        enrollmentRepository.delete(enrollment);
+        Map<Long, Course> courses = courseRepository.findAllByIdInWithPessimisticLock(List.of(fromCourseId, toCourseId)).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        Course fromCourse = courses.get(fromCourseId);
+        Course toCourse = courses.get(toCourseId);
+        if (fromCourse == null || toCourse == null) {
+            Long missingId = fromCourse == null ? fromCourseId : toCourseId;
+            throw new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + missingId);
+        }
 
-        return enrollment;
+        if (!toCourse.canEnroll()) {
+            throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
+        }
+
+        toCourse.increaseEnrollmentCount();
+        fromCourse.decreaseEnrollmentCount();
+        enrollment.setCourse(toCourse);
+        Enrollment moved = insertEnrollment(enrollment);
+
+        waitlistService.promoteNext(fromCourse);
+        return moved;
     }
 
-    @Transactional(readOnly = true)
-    public List<Enrollment> getStudentEnrollments(Long studentId) {
-        Member student = memberRepository.findById(studentId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
+    // 여러 강좌 일괄 취소: 수강 정보 조회는 IN 쿼리 한 번, 삭제는 DELETE 한 번으로 처리하고
+    // 수강 인원은 강좌 ID 오름차순으로 줄여 다른 일괄 신청/취소와 같은 순서로 강좌 row 를 잠근다
+    public List<EnrollmentResult> cancelMultipleCourses(Long studentId, List<Long> courseIds) {
+        List<Long> distinctCourseIds = courseIds.stream().distinct().sorted().toList();
+        // 강좌 ID 순으로 정렬된 강좌 ID -> 수강 정보 ID
+        SortedMap<Long, Long> enrollmentIds = enrollmentRepository.findAllByStudentIdAndCourseIdInForUpdate(studentId, distinctCourseIds).stream()
+                .collect(Collectors.toMap(enrollment -> enrollment.getCourse().getId(), Enrollment::getId, (a, b) -> a, TreeMap::new));
+
+        if (!enrollmentIds.isEmpty()) {
+            enrollmentRepository.deleteAllByIdInBatch(List.copyOf(enrollmentIds.values()));
+            for (Long courseId : enrollmentIds.keySet()) {
+                courseRepository.decreaseEnrollmentCount(courseId);
+                eventPublisher.publishEvent(CourseChangedEvent.updated(courseId));
+            }
+            for (Long courseId : waitlistService.coursesWithWaiting(enrollmentIds.keySet()).stream().sorted().toList()) {
+                courseRepository.findById(courseId).ifPresent(waitlistService::promoteNext);
+            }
+        }
 
-        return enrollmentRepository.findByStudent(student);
+        Set<Long> canceled = new HashSet<>();
+        List<EnrollmentResult> results = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            if (enrollmentIds.containsKey(courseId) && canceled.add(courseId)) {
+                results.add(new EnrollmentResult(courseId, true, null));
+            } else {
+                results.add(new EnrollmentResult(courseId, false, "해당 강좌를 수강 중이 아닙니다."));
+            }
+        }
+        return results;
     }
 
     @Transactional(readOnly = true)
-    public List<Enrollment> getCourseEnrollments(Long courseId) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+    public List<EnrollmentDTO> getStudentEnrollments(Long studentId) {
+        if (!memberRepository.existsById(studentId)) {
+            throw new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId);
+        }
+        return enrollmentRepository.findViewsByStudentId(studentId);
+    }
 
-        return enrollmentRepository.findByCourse(course);
+    @Transactional(readOnly = true)
+    public List<EnrollmentDTO> getCourseEnrollments(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId);
+        }
+        return enrollmentRepository.findViewsByCourseId(courseId);
     }
 
 }
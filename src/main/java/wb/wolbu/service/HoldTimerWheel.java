@@ -0,0 +1,129 @@
+package wb.wolbu.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 좌석 확보 만료용 해시 타이머 휠.
+// 만료 시각을 tick 단위로 잘라 wheelSize 개의 칸 중 하나에 넣고, 매 tick 마다 현재 칸 하나만 확인한다.
+// 등록/취소는 O(1)이고, 한 항목은 휠이 한 바퀴 돌 때마다 최대 한 번만 검사되므로 열린 좌석 수와 무관하게 만료 비용이 일정하다.
+// 등록은 여러 스레드에서, 칸 처리(advance)는 스케줄러 스레드 하나에서만 한다.
+@Component
+public class HoldTimerWheel {
+
+    private final long tickMs;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] buckets;
+    private final long startTime;
+
+    // 요청 스레드가 등록한 항목은 여기 쌓였다가 다음 tick 처리 때 칸으로 옮겨진다
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private long processedTick = 0;
+
+    @Autowired
+    public HoldTimerWheel(EnrollmentProperties enrollmentProperties) {
+        this(enrollmentProperties.getHold().getTickMs(), enrollmentProperties.getHold().getWheelSize(), System.currentTimeMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    HoldTimerWheel(long tickMs, int wheelSize, long startTime) {
+        // 칸 번호를 나머지 연산 대신 비트 마스크로 구하기 위해 2의 거듭제곱으로 맞춘다
+        int size = Integer.highestOneBit(Math.max(wheelSize, 1) * 2 - 1);
+        this.tickMs = tickMs;
+        this.mask = size - 1;
+        this.buckets = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.startTime = startTime;
+    }
+
+    public void schedule(Long holdId, Long courseId, long expiresAtMillis) {
+        long deadlineTick = Math.max((expiresAtMillis - startTime + tickMs - 1) / tickMs, 1);
+        Timeout timeout = new Timeout(holdId, courseId, deadlineTick);
+        Timeout previous = timeouts.put(holdId, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pending.add(timeout);
+    }
+
+    public void cancel(Long holdId) {
+        Timeout timeout = timeouts.remove(holdId);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    // now 까지 지난 tick 들을 처리하고 만료된 좌석 목록을 반환
+    public synchronized List<ExpiredHold> advance(long nowMillis) {
+        long targetTick = (nowMillis - startTime) / tickMs;
+        List<ExpiredHold> expired = new ArrayList<>();
+        while (processedTick < targetTick) {
+            processedTick++;
+            transferPending();
+            expireBucket(processedTick, expired);
+        }
+        return expired;
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 이미 지난 tick 이면 지금 처리할 칸에 넣어 바로 만료시킨다
+            long tick = Math.max(timeout.deadlineTick, processedTick);
+            buckets[(int) (tick & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(long tick, List<ExpiredHold> expired) {
+        ArrayDeque<Timeout> bucket = buckets[(int) (tick & mask)];
+        int count = bucket.size();
+        for (int i = 0; i < count; i++) {
+            Timeout timeout = bucket.poll();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.deadlineTick <= tick) {
+                timeouts.remove(timeout.holdId, timeout);
+                expired.add(new ExpiredHold(timeout.holdId, timeout.courseId));
+            } else {
+                // 아직 남은 바퀴가 있는 항목
+                bucket.add(timeout);
+            }
+        }
+    }
+
+    public record ExpiredHold(Long holdId, Long courseId) {
+    }
+
+    private static class Timeout {
+        private final Long holdId;
+        private final Long courseId;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(Long holdId, Long courseId, long deadlineTick) {
+            this.holdId = holdId;
+            this.courseId = courseId;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package wb.wolbu.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.IdempotencyRecord;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.InvalidInputException;
+import wb.wolbu.exception.custom.ResourceNotFoundException;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+import wb.wolbu.repository.IdempotencyRecordRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 타임아웃 후 같은 Idempotency-Key 로 재시도된 요청은 다시 처리하지 않고 처음 응답을 돌려준다.
+// 첫 요청이 처리 중일 때 들어온 재시도는 같이 실행되지 않고 그 결과를 기다린다.
+// 수강 중복/매진 같은 업무 오류도 그대로 재현하지만, 일시적인 오류(503, 500)는 보관하지 않아 다시 시도할 수 있다.
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String KEY_REUSED_MESSAGE = "다른 요청에 이미 사용된 Idempotency-Key 입니다.";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final EnrollmentProperties.Idempotency properties;
+
+    // 삽입 순서를 유지해 최대 개수를 넘으면 처리가 끝난 키 중 가장 오래된 것부터 버린다
+    private final Map<String, Entry> entries;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              EnrollmentProperties enrollmentProperties) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.properties = enrollmentProperties.getIdempotency();
+        int maxEntries = properties.getMaxEntries();
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                // 처리 중인 키를 버리면 같은 키의 재시도가 첫 요청과 동시에 실행되므로 남겨둔다
+                if (size() > maxEntries) {
+                    Iterator<Entry> iterator = values().iterator();
+                    while (size() > maxEntries && iterator.hasNext()) {
+                        if (iterator.next().result.isDone()) {
+                            iterator.remove();
+                        }
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    public ResponseEntity<?> execute(String key, String operation, Object request, Supplier<ResponseEntity<?>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidInputException("Idempotency-Key 는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String fingerprint = operation + " " + toJson(request);
+        while (true) {
+            Entry entry;
+            boolean owner = false;
+            synchronized (entries) {
+                entry = entries.get(key);
+                if (entry == null || entry.isExpired(properties.getTtlMs())) {
+                    entry = new Entry(fingerprint);
+                    entries.put(key, entry);
+                    owner = true;
+                }
+            }
+
+            verifyFingerprint(entry.fingerprint, fingerprint);
+            if (owner) {
+                return run(key, entry, action);
+            }
+
+            Outcome outcome = await(entry);
+            // 첫 요청이 일시적인 오류로 끝났으면 이번 요청이 다시 처리한다
+            if (outcome != null) {
+                return outcome.replay();
+            }
+        }
+    }
+
+    private ResponseEntity<?> run(String key, Entry entry, Supplier<ResponseEntity<?>> action) {
+        Optional<Outcome> persisted;
+        ResponseEntity<?> response = null;
+        try {
+            persisted = findPersisted(key, entry.fingerprint);
+            if (persisted.isEmpty()) {
+                response = action.get();
+            }
+        } catch (BusinessLogicException | ResourceNotFoundException | EntityNotFoundException e) {
+            entry.result.complete(Outcome.failed(e));
+            throw e;
+        } catch (RuntimeException e) {
+            discard(key, entry);
+            throw e;
+        }
+
+        if (persisted.isPresent()) {
+            entry.result.complete(persisted.get());
+            return persisted.get().replay();
+        }
+
+        if (properties.isPersistent()) {
+            persist(key, entry.fingerprint, response);
+        }
+        entry.result.complete(Outcome.succeeded(response));
+        return response;
+    }
+
+    // 재시작 전이나 다른 인스턴스에서 처리한 응답
+    private Optional<Outcome> findPersisted(String key, String fingerprint) {
+        if (!properties.isPersistent()) {
+            return Optional.empty();
+        }
+        return idempotencyRecordRepository.findById(key)
+                .map(record -> record.getFingerprint().equals(fingerprint)
+                        ? Outcome.persisted(record)
+                        : Outcome.failed(new InvalidInputException(KEY_REUSED_MESSAGE)));
+    }
+
+    private Outcome await(Entry entry) {
+        try {
+            return entry.result.get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void discard(String key, Entry entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+        entry.result.completeExceptionally(new IllegalStateException("retryable failure"));
+    }
+
+    private void persist(String key, String fingerprint, ResponseEntity<?> response) {
+        try {
+            String body = response.getBody() == null ? null : toJson(response.getBody());
+            idempotencyRecordRepository.save(new IdempotencyRecord(key, fingerprint, response.getStatusCode().value(), body));
+        } catch (RuntimeException e) {
+            // 처리 자체는 끝났으므로 저장 실패로 응답을 실패시키지 않는다. 메모리 보관분으로 재시도에 응답한다
+            log.warn("Idempotency 응답 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    private void verifyFingerprint(String stored, String fingerprint) {
+        if (!stored.equals(fingerprint)) {
+            throw new InvalidInputException(KEY_REUSED_MESSAGE);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 요청/응답 직렬화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${enrollment.idempotency.evict-interval-ms:60000}")
+    public void evictExpired() {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.isExpired(properties.getTtlMs()));
+        }
+        if (properties.isPersistent()) {
+            LocalDateTime expiredBefore = LocalDateTime.now().minus(Duration.ofMillis(properties.getTtlMs()));
+            idempotencyRecordRepository.deleteByCreatedAtBefore(expiredBefore);
+        }
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<Outcome> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+            this.result.whenComplete((outcome, failure) -> completedAt = System.currentTimeMillis());
+        }
+
+        // 보관 기간은 처리가 끝난 시점부터 센다. 처리 중인 키는 만료시키지 않는다
+        private boolean isExpired(long ttlMs) {
+            return completedAt > 0 && System.currentTimeMillis() - completedAt > ttlMs;
+        }
+    }
+
+    private record Outcome(HttpStatusCode status, Object body, String json, RuntimeException failure) {
+
+        private static Outcome succeeded(ResponseEntity<?> response) {
+            return new Outcome(response.getStatusCode(), response.getBody(), null, null);
+        }
+
+        private static Outcome failed(RuntimeException failure) {
+            return new Outcome(null, null, null, failure);
+        }
+
+        private static Outcome persisted(IdempotencyRecord record) {
+            return new Outcome(HttpStatusCode.valueOf(record.getStatusCode()), null, record.getResponseBody(), null);
+        }
+
+        private ResponseEntity<?> replay() {
+            if (failure != null) {
+                throw failure;
+            }
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(status).header(REPLAYED_HEADER, "true");
+            if (json != null) {
+                return builder.contentType(MediaType.APPLICATION_JSON).body(json);
+            }
+            return body == null ? builder.build() : builder.body(body);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package wb.wolbu.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 시드 기반 추첨. java.util.Random 의 난수열은 명세로 고정돼 있어 같은 시드와 같은 입력 순서면 JVM과 무관하게 같은 결과가 나온다
+public class LotteryDraw {
+
+    // 앞에서부터 seats 칸만 섞는 부분 Fisher-Yates. 신청자 수에 비례하는 한 번의 선형 처리
+    public static <T> List<T> pickWinners(List<T> applicants, int seats, long seed) {
+        List<T> pool = new ArrayList<>(applicants);
+        int winners = Math.min(Math.max(seats, 0), pool.size());
+        Random random = new Random(seed);
+        for (int i = 0; i < winners; i++) {
+            int j = i + random.nextInt(pool.size() - i);
+            T picked = pool.get(j);
+            pool.set(j, pool.get(i));
+            pool.set(i, picked);
+        }
+        return new ArrayList<>(pool.subList(0, winners));
+    }
+}
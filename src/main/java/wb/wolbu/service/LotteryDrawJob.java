@@ -0,0 +1,33 @@
+package wb.wolbu.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wb.wolbu.exception.custom.ResourceNotFoundException;
+
+import java.time.LocalDateTime;
+
+// 신청 기간이 끝난 추첨 강좌를 주기적으로 추첨한다 (관리자가 draw API로 먼저 돌릴 수도 있다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LotteryDrawJob {
+
+    private final LotteryService lotteryService;
+
+    @Scheduled(fixedDelayString = "${enrollment.lottery.draw-interval-ms:10000}")
+    public void drawDueWindows() {
+        for (Long courseId : lotteryService.getDueCourseIds(LocalDateTime.now())) {
+            try {
+                lotteryService.draw(courseId);
+            } catch (EntityNotFoundException | ResourceNotFoundException e) {
+                lotteryService.discard(courseId);
+            } catch (RuntimeException e) {
+                // 실패한 강좌는 추첨 전 상태로 남아 다음 주기에 다시 시도
+                log.warn("추첨 실패, 다시 시도 예정 - 강좌 ID: {}", courseId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package wb.wolbu.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import wb.wolbu.dto.LotteryWindowDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.LotteryApplication;
+import wb.wolbu.entity.LotteryResult;
+import wb.wolbu.entity.LotteryWindow;
+import wb.wolbu.entity.Member;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.ResourceNotFoundException;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.LotteryApplicationRepository;
+import wb.wolbu.repository.LotteryWindowRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.util.AfterCommit;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 신청 폭주가 예상되는 강좌는 선착순 대신 추첨으로 뽑는다.
+// 신청 기간에는 신청 한 건만 기록하고(강좌 락 없음), 마감 후 한 번의 추첨으로 수강생과 인원 수를 함께 확정한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LotteryService {
+
+    private final LotteryWindowRepository lotteryWindowRepository;
+    private final LotteryApplicationRepository lotteryApplicationRepository;
+    private final CourseRepository courseRepository;
+    private final MemberRepository memberRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final SeatLedger seatLedger;
+
+    // 추첨 전인 강좌의 마감 시각. 수강 신청마다 DB를 조회하지 않고 추첨 강좌 여부를 판단한다
+    private final Map<Long, LocalDateTime> pendingWindows = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingWindows() {
+        for (LotteryWindow window : lotteryWindowRepository.findByDrawnAtIsNull()) {
+            pendingWindows.put(window.getCourse().getId(), window.getClosesAt());
+        }
+    }
+
+    public boolean isLotteryCourse(Long courseId) {
+        return pendingWindows.containsKey(courseId);
+    }
+
+    // 강좌 삭제 등으로 추첨 정보가 사라진 경우 목록에서 제외
+    public void discard(Long courseId) {
+        pendingWindows.remove(courseId);
+    }
+
+    public List<Long> getDueCourseIds(LocalDateTime now) {
+        return pendingWindows.entrySet().stream()
+                .filter(entry -> !entry.getValue().isAfter(now))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public LotteryWindowDTO openWindow(Long courseId, LocalDateTime opensAt, LocalDateTime closesAt, Long seed) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        LocalDateTime start = opensAt != null ? opensAt : LocalDateTime.now();
+        if (!start.isBefore(closesAt)) {
+            throw new BusinessLogicException("추첨 신청 마감 시각은 시작 시각 이후여야 합니다.");
+        }
+
+        LotteryWindow window;
+        try {
+            window = lotteryWindowRepository.saveAndFlush(new LotteryWindow(course, start, closesAt, seed));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException("이미 추첨이 설정된 강좌입니다.");
+        }
+
+        AfterCommit.run(() -> pendingWindows.put(courseId, closesAt));
+        return toDTO(window, courseId);
+    }
+
+    public LotteryApplication apply(Long studentId, Long courseId) {
+        LotteryWindow window = findWindow(courseId);
+        if (!window.isAccepting(LocalDateTime.now())) {
+            throw new BusinessLogicException("추첨 신청 기간이 아닙니다.");
+        }
+
+        Member student = memberRepository.findById(studentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
+
+        try {
+            return lotteryApplicationRepository.saveAndFlush(new LotteryApplication(student, window.getCourse()));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException("이미 추첨 신청한 강좌입니다.");
+        }
+    }
+
+    // 신청을 ID 순으로 고정한 뒤 시드로 섞어 남은 좌석 수만큼 뽑는다.
+    // 시드와 좌석 수는 추첨 정보에, 후보에서 뺀 신청은 EXCLUDED 로 남기므로
+    // EXCLUDED 가 아닌 신청을 ID 순으로 모아 같은 시드와 좌석 수로 돌리면 언제든 같은 당첨자가 나온다.
+    public LotteryWindowDTO draw(Long courseId) {
+        // 강좌 락을 먼저 잡아 스케줄러와 수동 추첨이 겹쳐도 한 번만 추첨되게 한다
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        LotteryWindow window = findWindow(courseId);
+        if (window.isDrawn()) {
+            throw new BusinessLogicException("이미 추첨이 끝난 강좌입니다.");
+        }
+        if (LocalDateTime.now().isBefore(window.getClosesAt())) {
+            throw new BusinessLogicException("추첨 신청 기간이 끝나지 않았습니다.");
+        }
+
+        List<LotteryApplication> applications = lotteryApplicationRepository.findByCourseIdOrderByIdAsc(courseId);
+        Set<Long> enrolledStudentIds = applications.isEmpty()
+                ? Set.of()
+                : new HashSet<>(enrollmentRepository.findStudentIdsByCourseIdAndStudentIds(courseId,
+                        applications.stream().map(application -> application.getStudent().getId()).toList()));
+        List<LotteryApplication> candidates = applications.stream()
+                .filter(application -> !enrolledStudentIds.contains(application.getStudent().getId()))
+                .toList();
+
+        long seed = window.getSeed() != null ? window.getSeed() : new SecureRandom().nextLong();
+        int seats = course.getRemainingSeats();
+        List<LotteryApplication> winners = LotteryDraw.pickWinners(candidates, seats, seed);
+
+        enrollmentRepository.saveAll(winners.stream()
+                .map(application -> new Enrollment(application.getStudent(), course))
+                .toList());
+        course.increaseEnrollmentCount(winners.size());
+        window.markDrawn(seed, seats, winners.size());
+
+        lotteryApplicationRepository.updateResultByCourseId(courseId, LotteryResult.LOST);
+        if (candidates.size() < applications.size()) {
+            lotteryApplicationRepository.updateResultByIdIn(applications.stream()
+                    .filter(application -> enrolledStudentIds.contains(application.getStudent().getId()))
+                    .map(LotteryApplication::getId)
+                    .toList(), LotteryResult.EXCLUDED);
+        }
+        if (!winners.isEmpty()) {
+            lotteryApplicationRepository.updateResultByIdIn(
+                    winners.stream().map(LotteryApplication::getId).toList(), LotteryResult.WON);
+        }
+
+        AfterCommit.run(() -> {
+            pendingWindows.remove(courseId);
+            seatLedger.evict(courseId);
+        });
+        log.info("추첨 완료 - 강좌 ID: {}, 신청: {}명, 당첨: {}명, seed: {}", courseId, applications.size(), winners.size(), seed);
+        return toDTO(window, courseId);
+    }
+
+    @Transactional(readOnly = true)
+    public LotteryWindowDTO getWindow(Long courseId) {
+        return toDTO(findWindow(courseId), courseId);
+    }
+
+    @Transactional(readOnly = true)
+    public LotteryApplication getApplication(Long studentId, Long courseId) {
+        return lotteryApplicationRepository.findByStudentIdAndCourseId(studentId, courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 강좌의 추첨 신청 정보를 찾을 수 없습니다. courseId=" + courseId));
+    }
+
+    private LotteryWindow findWindow(Long courseId) {
+        return lotteryWindowRepository.findByCourseId(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 강좌의 추첨 정보를 찾을 수 없습니다. courseId=" + courseId));
+    }
+
+    private LotteryWindowDTO toDTO(LotteryWindow window, Long courseId) {
+        return LotteryWindowDTO.builder()
+                .courseId(courseId)
+                .opensAt(window.getOpensAt())
+                .closesAt(window.getClosesAt())
+                .applicantCount(lotteryApplicationRepository.countByCourseId(courseId))
+                .drawn(window.isDrawn())
+                // 미리 지정한 시드는 추첨 전에 공개하지 않는다
+                .seed(window.isDrawn() ? window.getSeed() : null)
+                .seatCount(window.getSeatCount())
+                .winnerCount(window.getWinnerCount())
+                .drawnAt(window.getDrawnAt())
+                .build();
+    }
+}
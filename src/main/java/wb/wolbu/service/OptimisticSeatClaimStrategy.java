@@ -0,0 +1,88 @@
+package wb.wolbu.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
+import wb.wolbu.entity.Course;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.TooManyRequestsException;
+import wb.wolbu.repository.CourseRepository;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// 락 없이 강좌를 읽고 인원을 올린 뒤, flush 시점의 @Version 검사로 충돌을 잡는다.
+// 충돌한 트랜잭션은 롤백되므로 jitter 를 준 간격을 두고 트랜잭션 전체를 정해진 횟수까지 다시 실행한다.
+// 경합이 적은 강좌에서는 락 대기가 없어 가장 빠르지만, 인기 강좌에서는 재시도가 쌓여 비관적 락보다 느려진다
+@Slf4j
+@Component
+public class OptimisticSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentProperties.Optimistic properties;
+    private final Counter retryCounter;
+
+    public OptimisticSeatClaimStrategy(CourseRepository courseRepository,
+                                       EnrollmentProperties enrollmentProperties,
+                                       MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+        this.properties = enrollmentProperties.getOptimistic();
+        this.retryCounter = Counter.builder("enrollment.seat.claim.retries")
+                .description("낙관적 락 충돌로 다시 실행한 수강 신청 트랜잭션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SeatClaimMode mode() {
+        return SeatClaimMode.OPTIMISTIC;
+    }
+
+    @Override
+    public Course claimSeat(Long courseId) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        if (!course.canEnroll()) {
+            throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
+        }
+
+        // 버전 검사는 이어지는 수강 정보 INSERT 의 flush 에서 함께 일어난다
+        course.increaseEnrollmentCount();
+        return course;
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> transaction) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.get();
+            } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    log.info("낙관적 락 재시도 한도 초과 - 시도 횟수: {}", attempt);
+                    throw new TooManyRequestsException("수강 신청이 몰리고 있습니다. 잠시 후 다시 시도해주세요.", properties.getRetryAfterSeconds());
+                }
+                retryCounter.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(properties.getMaxBackoffMs(), properties.getBaseBackoffMs() << Math.min(attempt, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("수강 신청이 몰리고 있습니다. 잠시 후 다시 시도해주세요.", properties.getRetryAfterSeconds());
+        }
+    }
+}
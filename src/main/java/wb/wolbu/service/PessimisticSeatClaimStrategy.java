@@ -0,0 +1,35 @@
+package wb.wolbu.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
+import wb.wolbu.entity.Course;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.repository.CourseRepository;
+
+// 강좌 row를 SELECT ... FOR UPDATE 로 잠그고 엔티티로 인원을 올린다. 같은 강좌 신청은 커밋까지 줄을 선다
+@Component
+@RequiredArgsConstructor
+public class PessimisticSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final CourseRepository courseRepository;
+
+    @Override
+    public SeatClaimMode mode() {
+        return SeatClaimMode.PESSIMISTIC;
+    }
+
+    @Override
+    public Course claimSeat(Long courseId) {
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        if (!course.canEnroll()) {
+            throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
+        }
+
+        course.increaseEnrollmentCount();
+        return course;
+    }
+}
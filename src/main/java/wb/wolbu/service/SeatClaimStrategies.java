@@ -0,0 +1,32 @@
+package wb.wolbu.service;
+
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 강좌별 설정(courseSeatClaimModes)이 있으면 그 방식을, 없으면 전역 seatClaimMode 를 고른다
+@Component
+public class SeatClaimStrategies {
+
+    private final Map<SeatClaimMode, SeatClaimStrategy> strategies = new EnumMap<>(SeatClaimMode.class);
+    private final EnrollmentProperties enrollmentProperties;
+
+    public SeatClaimStrategies(List<SeatClaimStrategy> strategies, EnrollmentProperties enrollmentProperties) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.mode(), strategy));
+        this.enrollmentProperties = enrollmentProperties;
+    }
+
+    public SeatClaimStrategy forCourse(Long courseId) {
+        SeatClaimMode mode = enrollmentProperties.getCourseSeatClaimModes()
+                .getOrDefault(courseId, enrollmentProperties.getSeatClaimMode());
+        SeatClaimStrategy strategy = strategies.get(mode);
+        if (strategy == null) {
+            throw new IllegalStateException("등록되지 않은 좌석 확보 방식입니다. mode=" + mode);
+        }
+        return strategy;
+    }
+}
@@ -0,0 +1,21 @@
+package wb.wolbu.service;
+
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
+import wb.wolbu.entity.Course;
+
+import java.util.function.Supplier;
+
+// 수강 신청 시 강좌 좌석 하나를 확보하는 방식.
+// 인기 강좌는 비관적 락이나 조건부 UPDATE, 한산한 강좌는 락 없는 낙관적 방식이 유리하므로 강좌별로 고를 수 있게 한다
+public interface SeatClaimStrategy {
+
+    SeatClaimMode mode();
+
+    // 트랜잭션 안에서 호출. 좌석을 확보(수강 인원 +1)한 강좌를 돌려주고, 정원이 찼으면 BusinessLogicException
+    Course claimSeat(Long courseId);
+
+    // 좌석 확보가 포함된 트랜잭션 전체를 실행한다. 트랜잭션 밖에서 호출해야 실패한 트랜잭션을 처음부터 다시 시도할 수 있다
+    default <T> T execute(Supplier<T> transaction) {
+        return transaction.get();
+    }
+}
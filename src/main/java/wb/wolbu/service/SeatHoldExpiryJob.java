@@ -0,0 +1,59 @@
+package wb.wolbu.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.SeatHold;
+import wb.wolbu.repository.SeatHoldRepository;
+import wb.wolbu.service.HoldTimerWheel.ExpiredHold;
+
+import java.time.ZoneId;
+import java.util.List;
+
+// 타이머 휠을 tick 마다 돌려 만료된 좌석을 배치 단위로 반환한다 (만료 여부를 DB에서 주기적으로 조회하지 않는다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldExpiryJob {
+
+    private final HoldTimerWheel holdTimerWheel;
+    private final SeatHoldService seatHoldService;
+    private final SeatHoldRepository seatHoldRepository;
+    private final EnrollmentProperties enrollmentProperties;
+
+    // 재시작 시 DB에 남아 있는 좌석을 휠에 다시 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOpenHolds() {
+        List<SeatHold> openHolds = seatHoldRepository.findAll();
+        for (SeatHold hold : openHolds) {
+            long expiresAt = hold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            holdTimerWheel.schedule(hold.getId(), hold.getCourse().getId(), expiresAt);
+        }
+        if (!openHolds.isEmpty()) {
+            log.info("확보 좌석 만료 타이머 복구 - {}건", openHolds.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${enrollment.hold.tick-ms:1000}")
+    public void expireHolds() {
+        List<ExpiredHold> expired = holdTimerWheel.advance(System.currentTimeMillis());
+        int batchSize = enrollmentProperties.getHold().getReleaseBatchSize();
+
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<ExpiredHold> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                int released = seatHoldService.releaseExpired(batch);
+                log.debug("만료 좌석 반환 - {}건", released);
+            } catch (RuntimeException e) {
+                // 반환에 실패한 좌석은 다음 tick 에 다시 시도
+                log.warn("만료 좌석 반환 실패, 다시 시도 예정 - {}건", batch.size(), e);
+                long retryAt = System.currentTimeMillis() + enrollmentProperties.getHold().getTickMs();
+                batch.forEach(hold -> holdTimerWheel.schedule(hold.holdId(), hold.courseId(), retryAt));
+            }
+        }
+    }
+}
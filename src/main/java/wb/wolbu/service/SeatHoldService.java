@@ -0,0 +1,159 @@
+package wb.wolbu.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.SeatHold;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.ResourceNotFoundException;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.repository.SeatHoldRepository;
+import wb.wolbu.service.HoldTimerWheel.ExpiredHold;
+import wb.wolbu.util.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 결제 등을 위해 좌석을 일정 시간 확보해 두는 단계. 확보된 좌석은 정원에 포함되고,
+// 확정(confirm) 시에는 정원 검사 없이 확보 좌석을 수강 인원으로 옮기기만 하므로 마지막 커밋이 가볍다.
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SeatHoldService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final CourseRepository courseRepository;
+    private final MemberRepository memberRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final WaitlistService waitlistService;
+    private final SeatLedger seatLedger;
+    private final HoldTimerWheel holdTimerWheel;
+    private final EnrollmentProperties enrollmentProperties;
+    private final LotteryService lotteryService;
+
+    public SeatHold holdSeat(Long studentId, Long courseId) {
+        if (lotteryService.isLotteryCourse(courseId)) {
+            throw new BusinessLogicException("추첨으로 수강생을 선발하는 강좌입니다.");
+        }
+
+        Member student = memberRepository.findById(studentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
+
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        if (enrollmentRepository.findByStudentAndCourse(student, course).isPresent()) {
+            throw new BusinessLogicException("이미 수강 중인 강좌입니다.");
+        }
+
+        course.holdSeat();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(enrollmentProperties.getHold().getTtlMs()));
+        SeatHold seatHold;
+        try {
+            seatHold = seatHoldRepository.saveAndFlush(new SeatHold(student, course, expiresAt));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException("이미 좌석을 확보한 강좌입니다.");
+        }
+
+        Long holdId = seatHold.getId();
+        AfterCommit.run(() -> {
+            holdTimerWheel.schedule(holdId, courseId, toEpochMilli(expiresAt));
+            seatLedger.evict(courseId);
+        });
+        return seatHold;
+    }
+
+    public Enrollment confirmHold(Long studentId, Long courseId) {
+        Member student = memberRepository.findById(studentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
+
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        // 만료됐지만 아직 반환 전인 좌석은 만료 작업이 정리한다
+        SeatHold seatHold = seatHoldRepository.findByStudentIdAndCourseId(studentId, courseId)
+                .filter(hold -> !hold.isExpired(LocalDateTime.now()))
+                .orElseThrow(() -> new BusinessLogicException("확보한 좌석이 없거나 유효 시간이 지났습니다."));
+
+        seatHoldRepository.delete(seatHold);
+        course.confirmHeldSeat();
+        Enrollment enrollment;
+        try {
+            enrollment = enrollmentRepository.saveAndFlush(new Enrollment(student, course));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException("이미 수강 중인 강좌입니다.");
+        }
+
+        Long holdId = seatHold.getId();
+        AfterCommit.run(() -> holdTimerWheel.cancel(holdId));
+        return enrollment;
+    }
+
+    public void releaseHold(Long studentId, Long courseId) {
+        Course course = courseRepository.findByIdWithPessimisticLock(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        SeatHold seatHold = seatHoldRepository.findByStudentIdAndCourseId(studentId, courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 강좌에 확보한 좌석이 없습니다. courseId=" + courseId));
+
+        seatHoldRepository.delete(seatHold);
+        course.releaseHeldSeats(1);
+        waitlistService.promoteNext(course);
+
+        Long holdId = seatHold.getId();
+        AfterCommit.run(() -> {
+            holdTimerWheel.cancel(holdId);
+            seatLedger.evict(courseId);
+        });
+    }
+
+    // 타이머 휠이 넘겨준 만료 좌석을 한 트랜잭션에서 반환한다.
+    // 강좌를 ID 순으로 먼저 잠근 뒤 좌석을 다시 읽으므로, 그 사이 확정/취소된 좌석은 건너뛴다
+    public int releaseExpired(Collection<ExpiredHold> expiredHolds) {
+        List<Long> courseIds = expiredHolds.stream().map(ExpiredHold::courseId).distinct().sorted().toList();
+        Map<Long, Course> courses = courseRepository.findAllByIdInWithPessimisticLock(courseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatHold> expired = seatHoldRepository.findAllById(expiredHolds.stream().map(ExpiredHold::holdId).toList())
+                .stream()
+                .filter(hold -> hold.isExpired(now))
+                .toList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        seatHoldRepository.deleteAllInBatch(expired);
+        Map<Long, Long> releasedByCourse = expired.stream()
+                .collect(Collectors.groupingBy(hold -> hold.getCourse().getId(), Collectors.counting()));
+        releasedByCourse.forEach((courseId, released) -> {
+            Course course = courses.get(courseId);
+            course.releaseHeldSeats(released.intValue());
+            // 반환된 좌석 수만큼 대기열 승격
+            int promoted = 0;
+            while (promoted < released && waitlistService.promoteNext(course).isPresent()) {
+                promoted++;
+            }
+            AfterCommit.run(() -> seatLedger.evict(courseId));
+        });
+        return expired.size();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
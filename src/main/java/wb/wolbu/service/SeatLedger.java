@@ -0,0 +1,174 @@
+package wb.wolbu.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.Course;
+import wb.wolbu.repository.CourseRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 강좌별 잔여 좌석을 메모리에서 관리해, 매진된 강좌의 신청은 트랜잭션/락 없이 바로 거절한다.
+// 장부는 DB 앞단의 필터일 뿐이고, 최종 정원 판단은 여전히 DB에서 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatLedger {
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentProperties enrollmentProperties;
+
+    private final Map<Long, Seats> ledger = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enrollmentProperties.getLedger().isEnabled();
+    }
+
+    // 임시 좌석 확보. 매진이면 false
+    public boolean tryAcquire(Long courseId) {
+        Seats seats = getOrLoad(courseId);
+        // 존재하지 않는 강좌는 DB에서 404로 처리되도록 통과시킨다
+        return seats == null || seats.tryAcquire();
+    }
+
+    // DB 커밋 성공: 임시 좌석을 확정
+    public void confirm(Long courseId) {
+        Seats seats = ledger.get(courseId);
+        if (seats != null) {
+            seats.confirm();
+        }
+    }
+
+    // DB 커밋 실패: 임시 좌석을 반환
+    public void release(Long courseId) {
+        Seats seats = ledger.get(courseId);
+        if (seats != null) {
+            seats.release();
+        }
+    }
+
+    // 수강 취소로 좌석이 하나 비었을 때
+    public void free(Long courseId) {
+        Seats seats = ledger.get(courseId);
+        if (seats != null) {
+            seats.free();
+        }
+    }
+
+    // 다음 요청 때 DB에서 다시 읽어오도록 장부에서 제거
+    public void evict(Long courseId) {
+        ledger.remove(courseId);
+    }
+
+    public int getAvailableSeats(Long courseId) {
+        Seats seats = ledger.get(courseId);
+        return seats == null ? -1 : seats.available.get();
+    }
+
+    // DB 값 기준으로 장부 보정.
+    // 커밋은 끝났지만 아직 confirm 되지 않은 좌석은 DB 잔여 좌석과 처리 중 좌석에 함께 잡혀 있어 정확히 뺄 수 없으므로,
+    // 처리 중인 좌석이 있는 강좌는 이번 보정에서 건너뛴다. DB를 읽는 사이 장부가 바뀌었으면 덮어쓰지 않는다
+    @Scheduled(fixedDelayString = "${enrollment.ledger.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        if (!isEnabled()) {
+            ledger.clear();
+            return;
+        }
+        if (ledger.isEmpty()) {
+            return;
+        }
+
+        // DB를 읽기 전의 장부 값. 처리 중인 좌석이 있는 강좌는 제외
+        Map<Long, Integer> snapshots = new HashMap<>();
+        ledger.forEach((courseId, seats) -> {
+            int available = seats.available.get();
+            if (seats.inFlight.get() == 0) {
+                snapshots.put(courseId, available);
+            }
+        });
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        List<Long> courseIds = new ArrayList<>(snapshots.keySet());
+        Map<Long, Course> courses = courseRepository.findAllById(courseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+
+        for (Long courseId : courseIds) {
+            Course course = courses.get(courseId);
+            if (course == null) {
+                ledger.remove(courseId);
+                continue;
+            }
+            Seats seats = ledger.get(courseId);
+            if (seats == null || seats.inFlight.get() > 0) {
+                continue;
+            }
+            int previous = snapshots.get(courseId);
+            int expected = Math.max(remainingSeats(course), 0);
+            // 읽는 사이 확보/반환이 있었으면 다음 주기에 다시 맞춘다
+            if (previous != expected && seats.available.compareAndSet(previous, expected)) {
+                log.info("좌석 장부 보정 - 강좌 ID: {}, {} -> {}", courseId, previous, expected);
+            }
+        }
+    }
+
+    private Seats getOrLoad(Long courseId) {
+        Seats seats = ledger.get(courseId);
+        if (seats != null) {
+            return seats;
+        }
+        return courseRepository.findById(courseId)
+                .map(course -> ledger.computeIfAbsent(courseId, id -> new Seats(remainingSeats(course))))
+                .orElse(null);
+    }
+
+    private int remainingSeats(Course course) {
+        return course.getRemainingSeats();
+    }
+
+    private static class Seats {
+        private final AtomicInteger available;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Seats(int available) {
+            this.available = new AtomicInteger(available);
+        }
+
+        private boolean tryAcquire() {
+            while (true) {
+                int current = available.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - 1)) {
+                    inFlight.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+
+        // 처리 도중 장부가 다시 로딩됐을 수 있으므로 0 아래로 내려가지 않게 한다
+        private void confirm() {
+            inFlight.updateAndGet(count -> Math.max(count - 1, 0));
+        }
+
+        private void release() {
+            confirm();
+            available.incrementAndGet();
+        }
+
+        private void free() {
+            available.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package wb.wolbu.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import wb.wolbu.entity.WaitlistEntry;
+import wb.wolbu.repository.WaitlistEntryRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 강좌별 대기 순서(대기 ID -> 학생 ID)를 메모리에 두고 순번 조회를 DB 없이 처리한다.
+// 원본은 waitlist_entry 테이블이며, 변경은 트랜잭션 커밋 이후에만 반영한다.
+@Component
+@RequiredArgsConstructor
+public class WaitlistQueue {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    private final Map<Long, ConcurrentSkipListMap<Long, Long>> queues = new ConcurrentHashMap<>();
+
+    public void add(Long courseId, Long entryId, Long studentId) {
+        getOrLoad(courseId).put(entryId, studentId);
+    }
+
+    public void remove(Long courseId, Long entryId) {
+        ConcurrentSkipListMap<Long, Long> queue = queues.get(courseId);
+        if (queue != null) {
+            queue.remove(entryId);
+        }
+    }
+
+    // 1부터 시작하는 순번. 아직 커밋 전이라 큐에 없는 대기 ID도 자기 앞 인원으로 계산된다
+    public int positionOf(Long courseId, Long entryId) {
+        return getOrLoad(courseId).headMap(entryId).size() + 1;
+    }
+
+    public int size(Long courseId) {
+        return getOrLoad(courseId).size();
+    }
+
+    // 다음 조회 때 DB에서 다시 읽어오도록 제거
+    public void evict(Long courseId) {
+        queues.remove(courseId);
+    }
+
+    private ConcurrentSkipListMap<Long, Long> getOrLoad(Long courseId) {
+        ConcurrentSkipListMap<Long, Long> queue = queues.get(courseId);
+        if (queue != null) {
+            return queue;
+        }
+        ConcurrentSkipListMap<Long, Long> loaded = new ConcurrentSkipListMap<>();
+        for (WaitlistEntry entry : waitlistEntryRepository.findByCourseIdOrderByIdAsc(courseId)) {
+            loaded.put(entry.getId(), entry.getStudent().getId());
+        }
+        return queues.computeIfAbsent(courseId, id -> loaded);
+    }
+}
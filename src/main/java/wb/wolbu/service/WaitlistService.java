@@ -0,0 +1,134 @@
+package wb.wolbu.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import wb.wolbu.dto.WaitlistDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.WaitlistEntry;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.ResourceNotFoundException;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.repository.WaitlistEntryRepository;
+import wb.wolbu.util.AfterCommit;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+// 매진 강좌의 선착순 대기열. 클라이언트가 재시도를 반복하는 대신 대기 정보를 한 건 남기고,
+// 수강 취소 시 같은 트랜잭션에서 맨 앞 학생을 수강생으로 올린다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final MemberRepository memberRepository;
+    private final WaitlistQueue waitlistQueue;
+    private final SeatLedger seatLedger;
+
+    public WaitlistDTO joinWaitlist(Long studentId, Long courseId) {
+        Member student = memberRepository.findById(studentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 학생을 찾을 수 없습니다. id=" + studentId));
+
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 강좌를 찾을 수 없습니다. id=" + courseId));
+
+        if (course.canEnroll()) {
+            throw new BusinessLogicException("정원이 남아 있는 강좌입니다. 바로 수강 신청해주세요.");
+        }
+
+        if (enrollmentRepository.findByStudentAndCourse(student, course).isPresent()) {
+            throw new BusinessLogicException("이미 수강 중인 강좌입니다.");
+        }
+
+        WaitlistEntry entry;
+        try {
+            entry = waitlistEntryRepository.saveAndFlush(new WaitlistEntry(student, course));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException("이미 대기 중인 강좌입니다.");
+        }
+
+        AfterCommit.run(() -> waitlistQueue.add(courseId, entry.getId(), studentId));
+        return toDTO(entry, studentId, courseId);
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistDTO getWaitlistPosition(Long studentId, Long courseId) {
+        WaitlistEntry entry = findEntry(studentId, courseId);
+        return toDTO(entry, studentId, courseId);
+    }
+
+    public void leaveWaitlist(Long studentId, Long courseId) {
+        WaitlistEntry entry = findEntry(studentId, courseId);
+        waitlistEntryRepository.delete(entry);
+        AfterCommit.run(() -> waitlistQueue.remove(courseId, entry.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasWaiting(Long courseId) {
+        return waitlistEntryRepository.existsByCourseId(courseId);
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> coursesWithWaiting(Collection<Long> courseIds) {
+        return new HashSet<>(waitlistEntryRepository.findCourseIdsWithWaiting(courseIds));
+    }
+
+    // 수강 취소로 빈 좌석을 대기열 맨 앞 학생에게 배정한다.
+    // 호출자가 강좌 row 를 잠그거나 갱신한 트랜잭션 안에서 호출해야 하며, 그 사이 직접 신청해 이미 수강 중인 학생은 건너뛴다.
+    public Optional<Enrollment> promoteNext(Course course) {
+        Long courseId = course.getId();
+        while (course.canEnroll()) {
+            Optional<WaitlistEntry> head = waitlistEntryRepository.findFirstByCourseIdOrderByIdAsc(courseId);
+            if (head.isEmpty()) {
+                return Optional.empty();
+            }
+
+            WaitlistEntry entry = head.get();
+            waitlistEntryRepository.delete(entry);
+            AfterCommit.run(() -> waitlistQueue.remove(courseId, entry.getId()));
+
+            Member student = entry.getStudent();
+            if (enrollmentRepository.findByStudentAndCourse(student, course).isPresent()) {
+                continue;
+            }
+
+            course.increaseEnrollmentCount();
+            Enrollment enrollment = enrollmentRepository.save(new Enrollment(student, course));
+            // 취소로 비었던 좌석이 바로 다시 찼으므로 장부는 DB에서 다시 읽게 한다
+            AfterCommit.run(() -> seatLedger.evict(courseId));
+            log.info("대기열 승격 - 강좌 ID: {}, 학생 ID: {}", courseId, student.getId());
+            return Optional.of(enrollment);
+        }
+        return Optional.empty();
+    }
+
+    private WaitlistEntry findEntry(Long studentId, Long courseId) {
+        return waitlistEntryRepository.findByStudentIdAndCourseId(studentId, courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 강좌의 대기 정보를 찾을 수 없습니다. courseId=" + courseId));
+    }
+
+    private WaitlistDTO toDTO(WaitlistEntry entry, Long studentId, Long courseId) {
+        int position = waitlistQueue.positionOf(courseId, entry.getId());
+        return WaitlistDTO.builder()
+                .studentId(studentId)
+                .courseId(courseId)
+                .position(position)
+                .waitingCount(Math.max(waitlistQueue.size(courseId), position))
+                .joinedAt(entry.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package wb.wolbu.benchmark;
+
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 수강 정보 10만 건 INSERT 시 JDBC 배치 유무에 따른 DB 왕복 횟수와 처리량 비교 (./gradlew benchmark 로 실행)
+// batch_size=1 은 IDENTITY 전략을 쓰던 때처럼 한 건씩 INSERT가 나가는 상황과 같다
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BatchInsertBenchmarkTest {
+    private static final int STUDENTS = 1000;
+    private static final int COURSES_PER_RUN = 100;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private RoundTripCounter roundTripCounter;
+
+    private Member instructor;
+    private List<Member> students;
+
+    @TestConfiguration
+    static class RoundTripCounterConfig {
+        @Bean
+        public RoundTripCounter roundTripCounter() {
+            return new RoundTripCounter();
+        }
+    }
+
+    // 단건 실행과 배치 실행을 모두 DB 왕복 1회로 센다
+    static class RoundTripCounter extends JdbcEventListener {
+        private final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void onAfterExecuteUpdate(PreparedStatementInformation statementInformation, long timeElapsedNanos, int rowCount, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onAfterExecuteBatch(StatementInformation statementInformation, long timeElapsedNanos, int[] updateCounts, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        public long reset() {
+            return count.getAndSet(0);
+        }
+    }
+
+    @BeforeAll
+    public void setUp() {
+        instructor = memberRepository.save(new Member("Instructor", "bench-batch-instructor@example.com", "010-9100-0000", "Password1!", MemberType.INSTRUCTOR));
+
+        List<Member> newStudents = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            newStudents.add(new Member("BatchStudent" + i, "bench-batch" + i + "@example.com", "010-9101-" + String.format("%04d", i), "Password1!", MemberType.STUDENT));
+        }
+        students = memberRepository.saveAll(newStudents);
+    }
+
+    @Test
+    @DisplayName("벤치마크 - 수강 정보 10만 건 INSERT, 배치 없음 vs batch_size=50")
+    public void benchmarkBatchInsert() {
+        Result unbatched = run("unbatched", 1);
+        Result batched = run("batched", 50);
+
+        System.out.printf("[batch insert] unbatched: %d round trips, %.0f rows/s%n", unbatched.roundTrips, unbatched.rowsPerSecond);
+        System.out.printf("[batch insert] batched:   %d round trips, %.0f rows/s (x%.2f)%n",
+                batched.roundTrips, batched.rowsPerSecond, batched.rowsPerSecond / unbatched.rowsPerSecond);
+    }
+
+    private Result run(String label, int batchSize) {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES_PER_RUN; i++) {
+            courses.add(new Course("Bench " + label + i, STUDENTS, 100000, instructor));
+        }
+        courses = courseRepository.saveAll(courses);
+
+        List<Long> courseIds = courses.stream().map(Course::getId).toList();
+        List<Long> studentIds = students.stream().map(Member::getId).toList();
+        int total = courseIds.size() * studentIds.size();
+
+        roundTripCounter.reset();
+        long start = System.nanoTime();
+        for (int offset = 0; offset < total; offset += CHUNK_SIZE) {
+            int from = offset;
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                for (int i = from; i < Math.min(from + CHUNK_SIZE, total); i++) {
+                    Member student = entityManager.getReference(Member.class, studentIds.get(i % STUDENTS));
+                    Course course = entityManager.getReference(Course.class, courseIds.get(i / STUDENTS));
+                    entityManager.persist(new Enrollment(student, course));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+        long roundTrips = roundTripCounter.reset();
+
+        Long inserted = entityManager.createQuery("SELECT COUNT(e) FROM Enrollment e WHERE e.course.id IN :courseIds", Long.class)
+                .setParameter("courseIds", courseIds)
+                .getSingleResult();
+        assertEquals(total, inserted.longValue());
+        return new Result(roundTrips, total / (elapsed / 1_000_000_000.0));
+    }
+
+    private record Result(long roundTrips, double rowsPerSecond) {
+    }
+}
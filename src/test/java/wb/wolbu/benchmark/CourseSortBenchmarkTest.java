@@ -0,0 +1,108 @@
+package wb.wolbu.benchmark;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 강좌 100만 건에서 목록 정렬 3종의 실행 계획과 응답 시간을 인덱스/저장된 신청률 컬럼 적용 전후로 비교 (./gradlew benchmark 로 실행)
+// "before" 는 USE INDEX () 로 인덱스를 막거나 예전처럼 나눗셈 식으로 정렬한 쿼리, "after" 는 현재 인덱스를 타는 쿼리
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "logging.level.org.hibernate.SQL=warn",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CourseSortBenchmarkTest {
+    private static final int COURSES = 1_000_000;
+    private static final long ID_OFFSET = 100_000_000L;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_OFFSET = 500_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = memberRepository.save(new Member("Instructor", "bench-sort-instructor@example.com", "010-9500-0000", "Password1!", MemberType.INSTRUCTOR));
+
+        // 정원 10~100명, 수강 인원 0~정원, 생성 시각은 1초 간격으로 채운다
+        jdbcTemplate.update("""
+                INSERT INTO course (id, name, max_students, price, instructor_id, created_at, version,
+                                    current_enrollment_count, held_seat_count, enrollment_rate)
+                SELECT ? + X, 'Sort Bench ' || X, 10 + MOD(X, 91), 10000, ?,
+                       DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 0,
+                       MOD(X * 7, 11 + MOD(X, 91)), 0,
+                       CAST(MOD(X * 7, 11 + MOD(X, 91)) AS DOUBLE) / (10 + MOD(X, 91))
+                FROM SYSTEM_RANGE(1, ?)
+                """, ID_OFFSET, instructor.getId(), COURSES);
+        jdbcTemplate.execute("ANALYZE TABLE course");
+    }
+
+    @AfterAll
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM course WHERE id > ?", ID_OFFSET);
+    }
+
+    @Test
+    @DisplayName("벤치마크 - 강좌 100만 건 정렬 조회, 인덱스/저장 컬럼 적용 전후")
+    public void benchmarkCourseSorts() {
+        List<String> rows = new ArrayList<>();
+        rows.add(compare("recent",
+                "SELECT id FROM course USE INDEX () ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE,
+                "SELECT id FROM course ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE));
+        rows.add(compare("popular",
+                "SELECT id FROM course USE INDEX () ORDER BY current_enrollment_count DESC, id DESC LIMIT " + PAGE_SIZE,
+                "SELECT id FROM course ORDER BY current_enrollment_count DESC, id DESC LIMIT " + PAGE_SIZE));
+        rows.add(compare("highEnrollmentRate",
+                "SELECT id FROM course ORDER BY current_enrollment_count * 1.0 / max_students DESC, id DESC LIMIT " + PAGE_SIZE,
+                "SELECT id FROM course ORDER BY enrollment_rate DESC, id DESC LIMIT " + PAGE_SIZE));
+
+        // 깊은 페이지: OFFSET 은 앞의 50만 건을 읽고 버리지만, 키셋은 직전 페이지 마지막 행부터 인덱스를 이어 읽는다
+        Map<String, Object> last = jdbcTemplate.queryForMap(
+                "SELECT enrollment_rate AS rate, id FROM course ORDER BY enrollment_rate DESC, id DESC LIMIT 1 OFFSET " + (DEEP_OFFSET - 1));
+        rows.add(compare("rate offset " + DEEP_OFFSET,
+                "SELECT id FROM course ORDER BY enrollment_rate DESC, id DESC LIMIT " + PAGE_SIZE + " OFFSET " + DEEP_OFFSET,
+                "SELECT id FROM course WHERE enrollment_rate < ? OR (enrollment_rate = ? AND id < ?) "
+                        + "ORDER BY enrollment_rate DESC, id DESC LIMIT " + PAGE_SIZE,
+                last.get("RATE"), last.get("RATE"), last.get("ID")));
+
+        System.out.printf("[course sort] %d courses, page size %d, avg of %d runs%n", COURSES, PAGE_SIZE, ITERATIONS);
+        System.out.printf("%-24s %12s %12s%n", "query", "before(ms)", "after(ms)");
+        rows.forEach(System.out::println);
+    }
+
+    // 두 쿼리가 같은 결과를 돌려주는지 확인하고 실행 계획과 평균 응답 시간을 출력한다
+    private String compare(String label, String before, String after, Object... afterArgs) {
+        assertEquals(jdbcTemplate.queryForList(before, Long.class), jdbcTemplate.queryForList(after, Long.class, afterArgs));
+
+        System.out.printf("[course sort] %s plan before:%n%s%n", label, explain(before));
+        System.out.printf("[course sort] %s plan after:%n%s%n", label, explain(after, afterArgs));
+        return String.format("%-24s %12.2f %12.2f", label, averageMillis(before), averageMillis(after, afterArgs));
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    private double averageMillis(String sql, Object... args) {
+        jdbcTemplate.queryForList(sql, Long.class, args);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            jdbcTemplate.queryForList(sql, Long.class, args);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
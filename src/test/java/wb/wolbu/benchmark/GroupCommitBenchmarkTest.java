@@ -0,0 +1,108 @@
+package wb.wolbu.benchmark;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.service.EnrollmentEngine;
+import wb.wolbu.service.EnrollmentService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 요청마다 커밋하는 방식과 엔진의 group commit 방식의 처리량 비교 (./gradlew benchmark 로 실행)
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "enrollment.engine.enabled=true",
+        "enrollment.engine.workers=2",
+        "enrollment.engine.max-batch-size=64",
+        "enrollment.engine.linger-ms=2",
+        "enrollment.engine.result-timeout-ms=30000",
+        "logging.level.org.hibernate.SQL=warn",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class GroupCommitBenchmarkTest {
+    private static final int STUDENTS = 2000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private EnrollmentEngine enrollmentEngine;
+
+    private Member instructor;
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeAll
+    public void setUp() {
+        instructor = memberRepository.save(new Member("Instructor", "bench-gc-instructor@example.com", "010-9000-0000", "Password1!", MemberType.INSTRUCTOR));
+
+        List<Member> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Member("BenchStudent" + i, "bench-gc" + i + "@example.com", "010-9001-" + String.format("%04d", i), "Password1!", MemberType.STUDENT));
+        }
+        memberRepository.saveAll(students).forEach(student -> studentIds.add(student.getId()));
+    }
+
+    @Test
+    @DisplayName("벤치마크 - 요청별 커밋 vs group commit")
+    public void benchmarkGroupCommit() throws Exception {
+        double perRequest = run("per-request", enrollmentService::enrollCourse);
+        double groupCommit = run("group-commit", enrollmentEngine::enrollCourse);
+
+        System.out.printf("[group commit] per-request: %.1f req/s, group-commit: %.1f req/s (x%.2f)%n",
+                perRequest, groupCommit, groupCommit / perRequest);
+    }
+
+    // 인기 강좌 2개에 모든 학생이 동시에 신청
+    private double run(String label, BiConsumer<Long, Long> enroll) throws Exception {
+        List<Long> courseIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            courseIds.add(courseRepository.save(new Course("Bench " + label + i, STUDENTS, 100000, instructor)).getId());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            for (Long studentId : studentIds) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    enroll.accept(studentId, courseId);
+                    return null;
+                }));
+            }
+        }
+
+        long start = System.nanoTime();
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+
+        for (Long courseId : courseIds) {
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            assertEquals(STUDENTS, course.getCurrentEnrollmentCount());
+            assertEquals(STUDENTS, enrollmentRepository.findByCourse(course).size());
+        }
+        return futures.size() / (elapsed / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,143 @@
+package wb.wolbu.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.facade.EnrollmentFacade;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// ConcurrencyTest 와 같은 동시 신청 부하를 경합 정도(강좌 수)를 바꿔 가며 좌석 확보 방식별로 비교 (./gradlew benchmark 로 실행)
+// 강좌 1개 = 모든 스레드가 한 row 를 두고 경쟁하는 인기 강좌, 강좌 64개 = 경합이 거의 없는 한산한 강좌
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "enrollment.admission.enabled=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SeatClaimBenchmarkTest {
+    private static final int STUDENTS = 1024;
+    private static final int THREADS = 32;
+    private static final int[] COURSE_COUNTS = {1, 8, 64};
+
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private EnrollmentFacade enrollmentFacade;
+    @Autowired
+    private EnrollmentProperties enrollmentProperties;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member instructor;
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeAll
+    public void setUp() {
+        instructor = memberRepository.save(new Member("Instructor", "bench-claim-instructor@example.com", "010-9200-0000", "Password1!", MemberType.INSTRUCTOR));
+
+        List<Member> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Member("BenchStudent" + i, "bench-claim" + i + "@example.com", "010-9201-" + String.format("%04d", i), "Password1!", MemberType.STUDENT));
+        }
+        memberRepository.saveAll(students).forEach(student -> studentIds.add(student.getId()));
+    }
+
+    @Test
+    @DisplayName("벤치마크 - 경합 정도별 비관적 락 vs 낙관적 락 vs 조건부 UPDATE")
+    public void benchmarkSeatClaimModes() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (int courseCount : COURSE_COUNTS) {
+            for (SeatClaimMode mode : SeatClaimMode.values()) {
+                rows.add(run(mode, courseCount));
+            }
+        }
+
+        System.out.printf("[seat claim] %d requests, %d threads%n", STUDENTS, THREADS);
+        System.out.printf("%-20s %8s %12s %8s %8s%n", "mode", "courses", "req/s", "failed", "retries");
+        rows.forEach(System.out::println);
+    }
+
+    // 학생마다 강좌 하나(학생 순번 % 강좌 수)에 동시에 신청. 정원은 넉넉하게 잡아 좌석 확보 비용만 잰다
+    private String run(SeatClaimMode mode, int courseCount) throws Exception {
+        List<Long> courseIds = new ArrayList<>();
+        for (int i = 0; i < courseCount; i++) {
+            courseIds.add(courseRepository.save(new Course("Bench " + mode + " " + courseCount + "-" + i, STUDENTS, 100000, instructor)).getId());
+        }
+
+        double retriesBefore = retries();
+        enrollmentProperties.setSeatClaimMode(mode);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        long elapsed;
+        try {
+            for (int i = 0; i < studentIds.size(); i++) {
+                Long studentId = studentIds.get(i);
+                Long courseId = courseIds.get(i % courseCount);
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    try {
+                        enrollmentFacade.enrollCourse(studentId, courseId);
+                        return true;
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+
+            long start = System.nanoTime();
+            startLatch.countDown();
+            for (Future<Boolean> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+            elapsed = System.nanoTime() - start;
+        } finally {
+            executorService.shutdown();
+            enrollmentProperties.setSeatClaimMode(SeatClaimMode.PESSIMISTIC);
+        }
+
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get()) {
+                succeeded++;
+            }
+        }
+
+        // 방식과 관계없이 수강 인원과 실제 수강 정보 수는 항상 같아야 한다
+        int enrolled = 0;
+        for (Long courseId : courseIds) {
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            int rows = enrollmentRepository.findByCourse(course).size();
+            assertEquals(rows, course.getCurrentEnrollmentCount());
+            enrolled += rows;
+        }
+        assertEquals(succeeded, enrolled);
+
+        double throughput = futures.size() / (elapsed / 1_000_000_000.0);
+        return String.format("%-20s %8d %12.1f %8d %8.0f",
+                mode, courseCount, throughput, futures.size() - succeeded, retries() - retriesBefore);
+    }
+
+    private double retries() {
+        return meterRegistry.get("enrollment.seat.claim.retries").counter().count();
+    }
+}
@@ -0,0 +1,97 @@
+package wb.wolbu.facade;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.EnrollmentDTO;
+import wb.wolbu.dto.EnrollmentTicketDTO;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.EnrollmentPendingException;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncEnrollmentFacadeTest {
+    private static final Long STUDENT_ID = 1L;
+    private static final Long COURSE_ID = 2L;
+
+    @Mock
+    private EnrollmentFacade enrollmentFacade;
+
+    @Mock
+    private ThreadPoolTaskExecutor enrollmentTaskExecutor;
+
+    private AsyncEnrollmentFacade asyncEnrollmentFacade;
+
+    @BeforeEach
+    void setUp() {
+        // 백그라운드 처리를 호출 스레드에서 바로 실행
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(enrollmentTaskExecutor).execute(any(Runnable.class));
+        asyncEnrollmentFacade = new AsyncEnrollmentFacade(enrollmentFacade, enrollmentTaskExecutor, new EnrollmentProperties());
+    }
+
+    @Test
+    @DisplayName("엔진 결과 대기 시간이 지나도 티켓은 PENDING 으로 남고, 늦게 커밋되면 SUCCEEDED 가 된다")
+    void submit_WhenEngineTimesOut_ShouldStayPendingUntilCommitted() {
+        // given
+        CompletableFuture<EnrollmentDTO> result = new CompletableFuture<>();
+        given(enrollmentFacade.enrollCourse(STUDENT_ID, COURSE_ID))
+                .willThrow(new EnrollmentPendingException("수강 신청 처리 시간이 초과되었습니다.", result));
+
+        // when
+        String ticket = asyncEnrollmentFacade.submit(STUDENT_ID, COURSE_ID).getTicket();
+
+        // then
+        assertThat(asyncEnrollmentFacade.getTicket(ticket).getStatus()).isEqualTo(EnrollmentTicketDTO.Status.PENDING);
+        result.complete(EnrollmentDTO.builder().id(10L).studentId(STUDENT_ID).courseId(COURSE_ID).build());
+        EnrollmentTicketDTO completed = asyncEnrollmentFacade.getTicket(ticket);
+        assertThat(completed.getStatus()).isEqualTo(EnrollmentTicketDTO.Status.SUCCEEDED);
+        assertThat(completed.getEnrollment().getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지난 신청이 나중에 거절되면 그 사유로 FAILED 가 된다")
+    void submit_WhenEngineTimesOutAndLaterRejects_ShouldFailWithReason() {
+        // given
+        CompletableFuture<EnrollmentDTO> result = new CompletableFuture<>();
+        given(enrollmentFacade.enrollCourse(STUDENT_ID, COURSE_ID))
+                .willThrow(new EnrollmentPendingException("수강 신청 처리 시간이 초과되었습니다.", result));
+        String ticket = asyncEnrollmentFacade.submit(STUDENT_ID, COURSE_ID).getTicket();
+
+        // when
+        result.completeExceptionally(new BusinessLogicException("수강 신청 인원이 꽉 찼습니다."));
+
+        // then
+        EnrollmentTicketDTO completed = asyncEnrollmentFacade.getTicket(ticket);
+        assertThat(completed.getStatus()).isEqualTo(EnrollmentTicketDTO.Status.FAILED);
+        assertThat(completed.getReason()).isEqualTo("수강 신청 인원이 꽉 찼습니다.");
+    }
+
+    @Test
+    @DisplayName("대기열에 들어가지 못한 신청은 바로 FAILED 로 확정한다")
+    void submit_WhenEngineQueueIsFull_ShouldFail() {
+        // given
+        given(enrollmentFacade.enrollCourse(STUDENT_ID, COURSE_ID))
+                .willThrow(new ServiceUnavailableException("수강 신청 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+
+        // when
+        String ticket = asyncEnrollmentFacade.submit(STUDENT_ID, COURSE_ID).getTicket();
+
+        // then
+        assertThat(asyncEnrollmentFacade.getTicket(ticket).getStatus()).isEqualTo(EnrollmentTicketDTO.Status.FAILED);
+    }
+}
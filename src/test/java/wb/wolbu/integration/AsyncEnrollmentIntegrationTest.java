@@ -0,0 +1,114 @@
+package wb.wolbu.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import wb.wolbu.dto.EnrollmentRequest;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AsyncEnrollmentIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private static Long studentId;
+    private static Long courseId;
+
+    @BeforeAll
+    public void setUp() {
+        Member student = new Member("Student", "async-student@example.com", "010-4000-0001", "Password1!", MemberType.STUDENT);
+        studentId = memberRepository.save(student).getId();
+
+        Member instructor = new Member("Instructor", "async-instructor@example.com", "010-4000-0002", "Password1!", MemberType.INSTRUCTOR);
+        instructor = memberRepository.save(instructor);
+
+        Course course = new Course("Async Test Course", 30, 100000, instructor);
+        courseId = courseRepository.save(course).getId();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("비동기 수강 신청 테스트 - 접수 후 처리 결과를 조회한다")
+    @WithMockUser(username = "async-student@example.com", roles = "STUDENT")
+    public void testEnrollCourseAsync() throws Exception {
+        String ticket = submit();
+
+        JsonNode result = awaitCompletion(ticket);
+
+        assertEquals("SUCCEEDED", result.get("status").asText());
+        assertEquals(studentId.longValue(), result.get("enrollment").get("studentId").asLong());
+        assertEquals(courseId.longValue(), result.get("enrollment").get("courseId").asLong());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("비동기 수강 신청 테스트 - 실패 사유를 조회한다")
+    @WithMockUser(username = "async-student@example.com", roles = "STUDENT")
+    public void testEnrollCourseAsyncFailure() throws Exception {
+        String ticket = submit();
+
+        JsonNode result = awaitCompletion(ticket);
+
+        assertEquals("FAILED", result.get("status").asText());
+        assertEquals("이미 수강 중인 강좌입니다.", result.get("reason").asText());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("존재하지 않는 티켓 조회 테스트")
+    @WithMockUser(username = "async-student@example.com", roles = "STUDENT")
+    public void testGetUnknownTicket() throws Exception {
+        mockMvc.perform(get("/api/enrollments/requests/unknown-ticket"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String submit() throws Exception {
+        EnrollmentRequest enrollmentRequest = new EnrollmentRequest(studentId, courseId);
+
+        MvcResult result = mockMvc.perform(post("/api/enrollments/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(enrollmentRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.ticket").exists())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("ticket").asText();
+    }
+
+    private JsonNode awaitCompletion(String ticket) throws Exception {
+        for (int i = 0; i < 50; i++) {
+            MvcResult result = mockMvc.perform(get("/api/enrollments/requests/" + ticket))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            if (!"PENDING".equals(body.get("status").asText())) {
+                return body;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("비동기 수강 신청이 제시간에 처리되지 않았습니다. ticket=" + ticket);
+    }
+}
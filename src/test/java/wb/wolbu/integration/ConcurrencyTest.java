@@ -10,17 +10,24 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
 import wb.wolbu.dto.EnrollmentRequest;
+import wb.wolbu.dto.EnrollmentResult;
+import wb.wolbu.dto.UpdateCourseRequest;
 import wb.wolbu.entity.Course;
 import wb.wolbu.entity.Enrollment;
 import wb.wolbu.entity.Member;
 import wb.wolbu.entity.MemberType;
+import wb.wolbu.exception.custom.BusinessLogicException;
 import wb.wolbu.repository.CourseRepository;
 import wb.wolbu.repository.EnrollmentRepository;
 import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.service.CourseService;
 import wb.wolbu.service.EnrollmentService;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
 
@@ -49,9 +56,25 @@ public class ConcurrencyTest {
     private EnrollmentRepository enrollmentRepository;
     @Autowired
     EnrollmentService enrollmentService;
+    @Autowired
+    EnrollmentProperties enrollmentProperties;
+    @Autowired
+    CourseService courseService;
 
     private static Long courseId;
     private static List<Long> studentIds = new ArrayList<>();
+    private static Long conditionalCourseId;
+    private static List<Long> conditionalStudentIds = new ArrayList<>();
+    private static Long duplicateCourseId;
+    private static Long duplicateStudentId;
+    private static List<Long> cartCourseIds = new ArrayList<>();
+    private static List<Long> cartStudentIds = new ArrayList<>();
+    private static Long cancelCourseId;
+    private static List<Long> cancelStudentIds = new ArrayList<>();
+    private static Long updateCourseId;
+    private static Long swapFromCourseId;
+    private static Long swapToCourseId;
+    private static List<Long> swapStudentIds = new ArrayList<>();
 
     @BeforeAll
     public void setUp() {
@@ -70,6 +93,51 @@ public class ConcurrencyTest {
             student = memberRepository.save(student);
             studentIds.add(student.getId());
         }
+
+        // 조건부 UPDATE 모드 검증용 강좌 (최대 수강 인원: 10명)와 15명의 학생
+        Course conditionalCourse = new Course("Conditional Update Test Course", 10, 100000, instructor);
+        conditionalCourseId = courseRepository.save(conditionalCourse).getId();
+
+        for (int i = 0; i < 15; i++) {
+            Member student = new Member("ConditionalStudent" + i, "conditional" + i + "@example.com", "010-0001-" + String.format("%04d", i), "Password1!", MemberType.STUDENT);
+            conditionalStudentIds.add(memberRepository.save(student).getId());
+        }
+
+        // 같은 학생의 중복 신청 검증용 강좌와 학생
+        Course duplicateCourse = new Course("Duplicate Enrollment Test Course", 10, 100000, instructor);
+        duplicateCourseId = courseRepository.save(duplicateCourse).getId();
+        Member duplicateStudent = new Member("DuplicateStudent", "duplicate@example.com", "010-0002-0000", "Password1!", MemberType.STUDENT);
+        duplicateStudentId = memberRepository.save(duplicateStudent).getId();
+
+        // 장바구니 일괄 신청 검증용 강좌 3개와 10명의 학생
+        for (int i = 0; i < 3; i++) {
+            Course cartCourse = new Course("Cart Test Course" + i, 10, 100000, instructor);
+            cartCourseIds.add(courseRepository.save(cartCourse).getId());
+        }
+        for (int i = 0; i < 10; i++) {
+            Member student = new Member("CartStudent" + i, "cart" + i + "@example.com", "010-0003-" + String.format("%04d", i), "Password1!", MemberType.STUDENT);
+            cartStudentIds.add(memberRepository.save(student).getId());
+        }
+
+        // 동시 중복 취소 검증용 강좌와 10명의 학생
+        Course cancelCourse = new Course("Cancel Test Course", 10, 100000, instructor);
+        cancelCourseId = courseRepository.save(cancelCourse).getId();
+        for (int i = 0; i < 10; i++) {
+            Member student = new Member("CancelStudent" + i, "cancel" + i + "@example.com", "010-0004-" + String.format("%04d", i), "Password1!", MemberType.STUDENT);
+            cancelStudentIds.add(memberRepository.save(student).getId());
+        }
+
+        // 수강 신청과 강좌 수정이 겹치는 경우 검증용 강좌 (학생은 조건부 UPDATE 검증용 학생을 다시 쓴다)
+        Course updateCourse = new Course("Update Race Test Course", 20, 100000, instructor);
+        updateCourseId = courseRepository.save(updateCourse).getId();
+
+        // 강좌 변경과 취소가 겹치는 경우 검증용 강좌 2개와 10명의 학생
+        swapFromCourseId = courseRepository.save(new Course("Swap From Test Course", 10, 100000, instructor)).getId();
+        swapToCourseId = courseRepository.save(new Course("Swap To Test Course", 10, 100000, instructor)).getId();
+        for (int i = 0; i < 10; i++) {
+            Member student = new Member("SwapStudent" + i, "swap" + i + "@example.com", "010-0005-" + String.format("%04d", i), "Password1!", MemberType.STUDENT);
+            swapStudentIds.add(memberRepository.save(student).getId());
+        }
     }
 
     @Test
@@ -99,7 +167,269 @@ public class ConcurrencyTest {
     @DisplayName("동시 수강 신청 테스트")
     @WithMockUser(username = "asd", roles = "STUDENT")
     public void testConcurrentEnrollment() throws Exception {
-        int threadCount = 15;
+        int successCount = runConcurrentEnrollment(courseId, studentIds);
+
+        Course finalCourse = courseRepository.findById(courseId).orElseThrow();
+        List<Enrollment> allEnrollments = enrollmentRepository.findByCourse(finalCourse);
+
+        System.out.println("최종 수강 인원: " + finalCourse.getCurrentEnrollmentCount());
+        System.out.println("실제 등록된 수강 정보 수: " + allEnrollments.size());
+        System.out.println("성공한 수강 신청 수: " + successCount);
+
+        assertEquals(10, finalCourse.getCurrentEnrollmentCount());
+        assertEquals(10, allEnrollments.size());
+        assertEquals(10, successCount);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("조건부 UPDATE 모드 동시 수강 신청 테스트")
+    public void testConcurrentEnrollmentWithConditionalUpdate() throws Exception {
+        enrollmentProperties.setSeatClaimMode(SeatClaimMode.CONDITIONAL_UPDATE);
+        int successCount;
+        try {
+            successCount = runConcurrentEnrollment(conditionalCourseId, conditionalStudentIds);
+        } finally {
+            enrollmentProperties.setSeatClaimMode(SeatClaimMode.PESSIMISTIC);
+        }
+
+        Course finalCourse = courseRepository.findById(conditionalCourseId).orElseThrow();
+        List<Enrollment> allEnrollments = enrollmentRepository.findByCourse(finalCourse);
+
+        System.out.println("최종 수강 인원: " + finalCourse.getCurrentEnrollmentCount());
+        System.out.println("실제 등록된 수강 정보 수: " + allEnrollments.size());
+        System.out.println("성공한 수강 신청 수: " + successCount);
+
+        assertEquals(10, finalCourse.getCurrentEnrollmentCount());
+        assertEquals(10, allEnrollments.size());
+        assertEquals(10, successCount);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("같은 학생의 동시 중복 수강 신청 테스트 - 유니크 제약으로 한 건만 성공한다")
+    public void testConcurrentDuplicateEnrollment() throws Exception {
+        // 강좌 락을 잡지 않는 조건부 UPDATE 모드에서도 중복 신청이 막히는지 확인
+        enrollmentProperties.setSeatClaimMode(SeatClaimMode.CONDITIONAL_UPDATE);
+        int successCount;
+        try {
+            successCount = runConcurrentEnrollment(duplicateCourseId, Collections.nCopies(10, duplicateStudentId));
+        } finally {
+            enrollmentProperties.setSeatClaimMode(SeatClaimMode.PESSIMISTIC);
+        }
+
+        Course finalCourse = courseRepository.findById(duplicateCourseId).orElseThrow();
+        List<Enrollment> allEnrollments = enrollmentRepository.findByCourse(finalCourse);
+
+        assertEquals(1, finalCourse.getCurrentEnrollmentCount());
+        assertEquals(1, allEnrollments.size());
+        assertEquals(1, successCount);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("장바구니 순서가 서로 다른 동시 일괄 수강 신청 테스트 - 교착 상태 없이 모두 처리된다")
+    public void testConcurrentMultipleEnrollmentWithOverlappingCarts() throws Exception {
+        List<Long> reversedCart = new ArrayList<>(cartCourseIds);
+        Collections.reverse(reversedCart);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(cartStudentIds.size());
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<List<EnrollmentResult>>> futures = new ArrayList<>();
+
+        // 학생 절반은 정순, 절반은 역순으로 같은 강좌들을 담아 신청
+        for (int i = 0; i < cartStudentIds.size(); i++) {
+            Long studentId = cartStudentIds.get(i);
+            List<Long> cart = i % 2 == 0 ? cartCourseIds : reversedCart;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return enrollmentService.enrollMultipleCourses(studentId, cart);
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<List<EnrollmentResult>> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).allMatch(EnrollmentResult::isSuccess);
+        }
+        executorService.shutdown();
+
+        for (Long cartCourseId : cartCourseIds) {
+            Course finalCourse = courseRepository.findById(cartCourseId).orElseThrow();
+            assertEquals(10, finalCourse.getCurrentEnrollmentCount());
+            assertEquals(10, enrollmentRepository.findByCourse(finalCourse).size());
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("같은 수강 정보의 동시 중복 취소 테스트 - 한 번만 취소되고 수강 인원이 한 번만 줄어든다")
+    public void testConcurrentDuplicateCancel() throws Exception {
+        for (Long studentId : cancelStudentIds) {
+            enrollmentService.enrollCourse(studentId, cancelCourseId);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(cancelStudentIds.size() * 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // 학생마다 같은 취소 요청을 두 번씩 동시에 보낸다
+        for (Long studentId : cancelStudentIds) {
+            for (int i = 0; i < 2; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    try {
+                        enrollmentService.cancelEnrollment(studentId, cancelCourseId);
+                        return true;
+                    } catch (Exception e) {
+                        return false;
+                    }
+                }));
+            }
+        }
+
+        startLatch.countDown();
+        int successCount = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS)) {
+                successCount++;
+            }
+        }
+        executorService.shutdown();
+
+        Course finalCourse = courseRepository.findById(cancelCourseId).orElseThrow();
+        assertEquals(10, successCount);
+        assertEquals(0, finalCourse.getCurrentEnrollmentCount());
+        assertEquals(0, enrollmentRepository.findByCourse(finalCourse).size());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("장바구니 순서가 서로 다른 동시 일괄 수강 취소 테스트 - 교착 상태 없이 강좌마다 한 번씩만 취소된다")
+    public void testConcurrentMultipleCancelWithOverlappingCarts() throws Exception {
+        List<Long> reversedCart = new ArrayList<>(cartCourseIds);
+        Collections.reverse(reversedCart);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(cartStudentIds.size() * 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<List<EnrollmentResult>>> futures = new ArrayList<>();
+
+        // Order(4)에서 세 강좌를 모두 신청한 학생들이 정순/역순 일괄 취소를 동시에 두 번씩 보낸다
+        for (Long studentId : cartStudentIds) {
+            for (List<Long> cart : List.of(cartCourseIds, reversedCart)) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return enrollmentService.cancelMultipleCourses(studentId, cart);
+                }));
+            }
+        }
+
+        startLatch.countDown();
+        long canceled = 0;
+        for (Future<List<EnrollmentResult>> future : futures) {
+            canceled += future.get(10, TimeUnit.SECONDS).stream().filter(EnrollmentResult::isSuccess).count();
+        }
+        executorService.shutdown();
+
+        assertEquals(cartStudentIds.size() * cartCourseIds.size(), canceled);
+        for (Long cartCourseId : cartCourseIds) {
+            Course finalCourse = courseRepository.findById(cartCourseId).orElseThrow();
+            assertEquals(0, finalCourse.getCurrentEnrollmentCount());
+            assertEquals(0, enrollmentRepository.findByCourse(finalCourse).size());
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("수강 신청과 강좌 수정 동시 실행 테스트 - 버전 충돌 없이 모두 처리된다")
+    public void testConcurrentEnrollmentAndCourseUpdate() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(conditionalStudentIds.size() * 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // 학생마다 신청 한 건과 강좌 수정 한 건을 동시에 보낸다
+        for (int i = 0; i < conditionalStudentIds.size(); i++) {
+            Long studentId = conditionalStudentIds.get(i);
+            UpdateCourseRequest request = new UpdateCourseRequest("Update Race Test Course " + i, 20, 100000 + i);
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return enrollmentService.enrollCourse(studentId, updateCourseId);
+            }));
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return courseService.updateCourse(updateCourseId, request);
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        Course finalCourse = courseRepository.findById(updateCourseId).orElseThrow();
+        assertEquals(conditionalStudentIds.size(), finalCourse.getCurrentEnrollmentCount());
+        assertEquals(conditionalStudentIds.size(), enrollmentRepository.findByCourse(finalCourse).size());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("같은 수강 정보의 강좌 변경과 취소 동시 실행 테스트 - 교착 상태 없이 둘 중 하나만 반영된다")
+    public void testConcurrentSwapAndCancel() throws Exception {
+        for (Long studentId : swapStudentIds) {
+            enrollmentService.enrollCourse(studentId, swapFromCourseId);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(swapStudentIds.size() * 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> swaps = new ArrayList<>();
+        List<Future<Boolean>> cancels = new ArrayList<>();
+
+        // 학생마다 변경과 취소를 동시에 보낸다. 업무 규칙 위반(이미 옮겨졌거나 지워짐) 외의 실패는 그대로 테스트 실패로 드러난다
+        for (Long studentId : swapStudentIds) {
+            swaps.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    enrollmentService.swapCourse(studentId, swapFromCourseId, swapToCourseId);
+                    return true;
+                } catch (BusinessLogicException e) {
+                    return false;
+                }
+            }));
+            cancels.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    enrollmentService.cancelEnrollment(studentId, swapFromCourseId);
+                    return true;
+                } catch (BusinessLogicException e) {
+                    return false;
+                }
+            }));
+        }
+
+        startLatch.countDown();
+        int swapped = 0;
+        int canceled = 0;
+        for (int i = 0; i < swapStudentIds.size(); i++) {
+            boolean swapSucceeded = swaps.get(i).get(10, TimeUnit.SECONDS);
+            boolean cancelSucceeded = cancels.get(i).get(10, TimeUnit.SECONDS);
+            assertThat(swapSucceeded).isNotEqualTo(cancelSucceeded);
+            swapped += swapSucceeded ? 1 : 0;
+            canceled += cancelSucceeded ? 1 : 0;
+        }
+        executorService.shutdown();
+
+        Course fromCourse = courseRepository.findById(swapFromCourseId).orElseThrow();
+        Course toCourse = courseRepository.findById(swapToCourseId).orElseThrow();
+        assertEquals(swapStudentIds.size(), swapped + canceled);
+        assertEquals(0, fromCourse.getCurrentEnrollmentCount());
+        assertEquals(0, enrollmentRepository.findByCourse(fromCourse).size());
+        assertEquals(swapped, toCourse.getCurrentEnrollmentCount());
+        assertEquals(swapped, enrollmentRepository.findByCourse(toCourse).size());
+    }
+
+    // 학생 수만큼 스레드를 띄워 동시에 수강 신청하고, 성공한 신청 수를 반환
+    private int runConcurrentEnrollment(Long targetCourseId, List<Long> targetStudentIds) throws Exception {
+        int threadCount = targetStudentIds.size();
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
         CountDownLatch latch = new CountDownLatch(threadCount);
         CountDownLatch startLatch = new CountDownLatch(1);
@@ -111,10 +441,10 @@ public class ConcurrencyTest {
             futures.add(executorService.submit(() -> {
                 try {
                     startLatch.await();
-                    enrollmentService.enrollCourse(studentIds.get(index), courseId);
+                    enrollmentService.enrollCourse(targetStudentIds.get(index), targetCourseId);
                     return true;
                 } catch (Exception e) {
-                    System.out.println("수강 신청 실패 - 학생 ID: " + studentIds.get(index) + ", 오류: " + e.getMessage());
+                    System.out.println("수강 신청 실패 - 학생 ID: " + targetStudentIds.get(index) + ", 오류: " + e.getMessage());
                     return false;
                 } finally {
                     latch.countDown();
@@ -132,17 +462,6 @@ public class ConcurrencyTest {
                 successCount++;
             }
         }
-
-        Course finalCourse = courseRepository.findById(courseId).orElseThrow();
-        List<Enrollment> allEnrollments = enrollmentRepository.findByCourse(finalCourse);
-
-        System.out.println("최종 수강 인원: " + finalCourse.getCurrentEnrollmentCount());
-        System.out.println("실제 등록된 수강 정보 수: " + allEnrollments.size());
-        System.out.println("성공한 수강 신청 수: " + successCount);
-
-        assertEquals(10, finalCourse.getCurrentEnrollmentCount());
-        assertEquals(10, allEnrollments.size());
-        assertEquals(10, successCount);
+        return successCount;
     }
-
 }
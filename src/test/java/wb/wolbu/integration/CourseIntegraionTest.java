@@ -129,6 +129,13 @@ public class CourseIntegraionTest {
                 .andExpect(jsonPath("$.name").value("Advanced Spring Boot"))
                 .andExpect(jsonPath("$.maxStudents").value(35))
                 .andExpect(jsonPath("$.price").value(120000));
+
+        // 상세 조회 캐시에 남아 있던 이전 값이 아니라 수정된 값을 응답해야 한다
+        mockMvc.perform(get("/api/courses/" + courseId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Advanced Spring Boot"))
+                .andExpect(jsonPath("$.maxStudents").value(35));
     }
 
     @Test
@@ -0,0 +1,108 @@
+package wb.wolbu.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.EnrollmentRequest;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 실제 DB 에서 한 트랜잭션이 강좌 row 락을 쥐고 있는 동안 다른 신청이 제한 시간만큼만 기다리고 503 으로 거절되는지 확인한다
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CourseLockIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentProperties enrollmentProperties;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long studentId;
+    private Long courseId;
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = memberRepository.save(new Member("Instructor", "lock-it-instructor@example.com", "010-9800-0000", "Password1!", MemberType.INSTRUCTOR));
+        courseId = courseRepository.save(new Course("Lock Test Course", 10, 100000, instructor)).getId();
+        studentId = memberRepository.save(new Member("Student", "lock-it-student@example.com", "010-9800-0001", "Password1!", MemberType.STUDENT)).getId();
+    }
+
+    @Test
+    @DisplayName("강좌 row 락 대기 테스트 - 다른 트랜잭션이 락을 쥐고 있으면 제한 시간 뒤 503 과 Retry-After 로 거절한다")
+    @WithMockUser(username = "lock-it-student@example.com", roles = "STUDENT")
+    public void testEnrollWhileCourseRowLocked() throws Exception {
+        EnrollmentProperties.Lock lock = enrollmentProperties.getLock();
+        int timeoutMs = lock.getTimeoutMs();
+        long retryAfterSeconds = lock.getRetryAfterSeconds();
+        lock.setTimeoutMs(300);
+        lock.setRetryAfterSeconds(2);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executorService.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                courseRepository.findByIdWithPessimisticLock(courseId).orElseThrow();
+                locked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            enroll()
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+            lock.setTimeoutMs(timeoutMs);
+            lock.setRetryAfterSeconds(retryAfterSeconds);
+        }
+
+        // 락이 풀리면 같은 신청이 처리된다
+        enroll().andExpect(status().isCreated());
+    }
+
+    private ResultActions enroll() throws Exception {
+        return mockMvc.perform(post("/api/enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EnrollmentRequest(studentId, courseId))));
+    }
+}
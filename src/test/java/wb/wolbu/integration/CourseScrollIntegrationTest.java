@@ -0,0 +1,126 @@
+package wb.wolbu.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.service.EnrollmentService;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CourseScrollIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    // 신청률 순서: rate40(2/5) > rate25(1/4) = rate25b(2/8) > rate0
+    private Long rate40Id;
+    private Long rate25Id;
+    private Long rate25bId;
+    private Long rate0Id;
+    private Long noInstructorId;
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = memberRepository.save(new Member("Instructor", "scroll-instructor@example.com", "010-9400-0000", "Password1!", MemberType.INSTRUCTOR));
+        rate0Id = courseRepository.save(new Course("Scroll Rate 0", 10, 10000, instructor)).getId();
+        rate25Id = courseRepository.save(new Course("Scroll Rate 25", 4, 10000, instructor)).getId();
+        rate25bId = courseRepository.save(new Course("Scroll Rate 25 B", 8, 10000, instructor)).getId();
+        rate40Id = courseRepository.save(new Course("Scroll Rate 40", 5, 10000, instructor)).getId();
+        // 강사가 없는 강좌도 목록에서 빠지지 않아야 한다
+        noInstructorId = courseRepository.save(new Course("Scroll No Instructor", 10, 10000, null)).getId();
+
+        List<Long> studentIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            studentIds.add(memberRepository.save(new Member("ScrollStudent" + i, "scroll" + i + "@example.com", "010-9401-" + String.format("%04d", i), "Password1!", MemberType.STUDENT)).getId());
+        }
+        enrollmentService.enrollCourse(studentIds.get(0), rate25Id);
+        enrollmentService.enrollCourse(studentIds.get(0), rate25bId);
+        enrollmentService.enrollCourse(studentIds.get(1), rate25bId);
+        enrollmentService.enrollCourse(studentIds.get(0), rate40Id);
+        enrollmentService.enrollCourse(studentIds.get(1), rate40Id);
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 모든 정렬 기준에서 끝까지 넘기면 중복/누락 없이 한 번씩 조회된다")
+    public void scrollCourses_ThroughAllPages_ShouldVisitEachCourseOnce() throws Exception {
+        for (String sortBy : List.of("recent", "popular", "highEnrollmentRate")) {
+            List<Long> ids = scrollAll(sortBy, 2);
+
+            assertThat(new HashSet<>(ids)).hasSameSizeAs(ids);
+            assertThat(ids).contains(rate0Id, rate25Id, rate25bId, rate40Id, noInstructorId);
+        }
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 신청률이 같으면 ID 내림차순으로 이어진다")
+    public void scrollCourses_SortByHighEnrollmentRate_ShouldKeepOrderAcrossPages() throws Exception {
+        List<Long> ids = scrollAll("highEnrollmentRate", 1);
+
+        List<Long> ours = ids.stream().filter(Set.of(rate0Id, rate25Id, rate25bId, rate40Id)::contains).toList();
+        assertThat(ours).containsExactly(rate40Id, rate25bId, rate25Id, rate0Id);
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 정렬 기준이 다른 커서는 거절한다")
+    public void scrollCourses_WithCursorOfOtherSort_ShouldReturnBadRequest() throws Exception {
+        JsonNode first = fetch(get("/api/courses/scroll").param("size", "1").param("sortBy", "recent"));
+
+        mockMvc.perform(get("/api/courses/scroll")
+                        .param("sortBy", "popular")
+                        .param("cursor", first.get("nextCursor").asText()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("정렬 기준과 맞지 않는 커서입니다."));
+    }
+
+    private List<Long> scrollAll(String sortBy, int size) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/courses/scroll")
+                    .param("size", String.valueOf(size))
+                    .param("sortBy", sortBy);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = fetch(request);
+            page.get("content").forEach(course -> ids.add(course.get("id").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode fetch(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
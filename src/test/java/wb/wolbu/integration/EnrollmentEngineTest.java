@@ -0,0 +1,112 @@
+package wb.wolbu.integration;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.facade.EnrollmentFacade;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "enrollment.engine.enabled=true",
+        "enrollment.engine.workers=2"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class EnrollmentEngineTest {
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private EnrollmentFacade enrollmentFacade;
+
+    private static List<Long> courseIds = new ArrayList<>();
+    private static List<Long> studentIds = new ArrayList<>();
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = new Member("Instructor", "engine-instructor@example.com", "010-3000-0000", "Password1!", MemberType.INSTRUCTOR);
+        instructor = memberRepository.save(instructor);
+
+        // 강좌 2개 생성 (최대 수강 인원: 10명)
+        for (int i = 0; i < 2; i++) {
+            Course course = new Course("Engine Test Course" + i, 10, 100000, instructor);
+            courseIds.add(courseRepository.save(course).getId());
+        }
+
+        // 15명의 학생 생성
+        for (int i = 0; i < 15; i++) {
+            Member student = new Member("EngineStudent" + i, "engine" + i + "@example.com", "010-3001-" + String.format("%04d", i), "Password1!", MemberType.STUDENT);
+            studentIds.add(memberRepository.save(student).getId());
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("엔진 모드 동시 수강 신청 테스트 - 강좌별로 정원을 넘지 않는다")
+    public void testConcurrentEnrollmentThroughEngine() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(30);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        for (Long courseId : courseIds) {
+            for (Long studentId : studentIds) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    try {
+                        enrollmentFacade.enrollCourse(studentId, courseId);
+                        return true;
+                    } catch (Exception e) {
+                        return false;
+                    }
+                }));
+            }
+        }
+
+        startLatch.countDown();
+        int successCount = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS)) {
+                successCount++;
+            }
+        }
+        executorService.shutdown();
+
+        for (Long courseId : courseIds) {
+            Course finalCourse = courseRepository.findById(courseId).orElseThrow();
+            List<Enrollment> allEnrollments = enrollmentRepository.findByCourse(finalCourse);
+            assertEquals(10, finalCourse.getCurrentEnrollmentCount());
+            assertEquals(10, allEnrollments.size());
+        }
+        assertEquals(20, successCount);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("엔진 모드 수강 취소 테스트")
+    public void testCancelEnrollmentThroughEngine() {
+        Long courseId = courseIds.get(0);
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        Long enrolledStudentId = enrollmentRepository.findByCourse(course).get(0).getStudent().getId();
+
+        enrollmentFacade.cancelEnrollment(enrolledStudentId, courseId);
+
+        Course finalCourse = courseRepository.findById(courseId).orElseThrow();
+        assertEquals(9, finalCourse.getCurrentEnrollmentCount());
+        assertEquals(9, enrollmentRepository.findByCourse(finalCourse).size());
+    }
+}
@@ -0,0 +1,119 @@
+package wb.wolbu.integration;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.service.EnrollmentService;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EnrollmentQueryCountTest {
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private Long smallCourseId;
+    private Long largeCourseId;
+    private Long studentId;
+
+    @TestConfiguration
+    static class QueryCounterConfig {
+        @Bean
+        public QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+    }
+
+    // record 를 호출한 스레드가 실행한 SQL만 기록 (ID 시퀀스 호출은 50건마다 한 번씩만 나가므로 제외)
+    // 랭킹 갱신 같은 스케줄러 스레드의 쿼리가 섞이지 않도록 스레드로 거른다
+    static class QueryCounter extends JdbcEventListener {
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+        private volatile Thread recordingThread;
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            if (Thread.currentThread() != recordingThread) {
+                return;
+            }
+            String sql = statementInformation.getSql().toLowerCase();
+            if (!sql.contains("next value for")) {
+                statements.add(sql);
+            }
+        }
+
+        public List<String> record(Runnable action) {
+            statements.clear();
+            recordingThread = Thread.currentThread();
+            try {
+                action.run();
+            } finally {
+                recordingThread = null;
+            }
+            return new ArrayList<>(statements);
+        }
+    }
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = new Member("Instructor", "querycount-instructor@example.com", "010-2000-0000", "Password1!", MemberType.INSTRUCTOR);
+        instructor = memberRepository.save(instructor);
+
+        smallCourseId = courseRepository.save(new Course("Small Course", 200, 100000, instructor)).getId();
+        largeCourseId = courseRepository.save(new Course("Large Course", 200, 100000, instructor)).getId();
+
+        // 큰 강좌에는 미리 100명을 수강 신청 시켜둔다
+        for (int i = 0; i < 100; i++) {
+            Member student = new Member("QueryCountStudent" + i, "querycount" + i + "@example.com", "010-2001-" + String.format("%04d", i), "Password1!", MemberType.STUDENT);
+            student = memberRepository.save(student);
+            enrollmentService.enrollCourse(student.getId(), largeCourseId);
+        }
+
+        Member student = new Member("Target Student", "querycount-target@example.com", "010-2002-0000", "Password1!", MemberType.STUDENT);
+        studentId = memberRepository.save(student).getId();
+    }
+
+    @Test
+    @DisplayName("수강 신청/취소 쿼리 수는 강좌의 수강생 수와 무관하다")
+    void enrollAndCancel_ShouldNotLoadCourseEnrollments() {
+        // when
+        List<String> smallEnroll = queryCounter.record(() -> enrollmentService.enrollCourse(studentId, smallCourseId));
+        List<String> largeEnroll = queryCounter.record(() -> enrollmentService.enrollCourse(studentId, largeCourseId));
+        List<String> smallCancel = queryCounter.record(() -> enrollmentService.cancelEnrollment(studentId, smallCourseId));
+        List<String> largeCancel = queryCounter.record(() -> enrollmentService.cancelEnrollment(studentId, largeCourseId));
+
+        // then
+        assertThat(largeEnroll).hasSameSizeAs(smallEnroll);
+        assertThat(largeCancel).hasSameSizeAs(smallCancel);
+        assertThat(largeEnroll).noneMatch(EnrollmentQueryCountTest::isCourseEnrollmentsLoad);
+        assertThat(largeCancel).noneMatch(EnrollmentQueryCountTest::isCourseEnrollmentsLoad);
+    }
+
+    // 강좌의 수강 정보 전체를 course_id로만 조회하는 쿼리인지 확인
+    private static boolean isCourseEnrollmentsLoad(String sql) {
+        return sql.contains("from enrollment") && sql.contains("course_id=?") && !sql.contains("member_id=?");
+    }
+}
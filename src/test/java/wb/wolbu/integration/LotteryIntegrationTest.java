@@ -0,0 +1,188 @@
+package wb.wolbu.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import wb.wolbu.dto.EnrollmentRequest;
+import wb.wolbu.dto.LotteryWindowRequest;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.service.LotteryDraw;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 스케줄러가 먼저 추첨하지 않도록 주기를 길게 잡고 draw API로 직접 추첨한다
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "enrollment.lottery.draw-interval-ms=600000")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class LotteryIntegrationTest {
+    private static final long SEED = 20230916L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    private final List<Long> studentIds = new ArrayList<>();
+    private List<Long> candidateIds;
+    private Long courseId;
+    private LocalDateTime closesAt;
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = memberRepository.save(new Member("Instructor", "lottery-instructor@example.com", "010-8000-0000", "Password1!", MemberType.INSTRUCTOR));
+        courseId = courseRepository.save(new Course("Lottery Test Course", 3, 100000, instructor)).getId();
+
+        for (int i = 1; i <= 8; i++) {
+            Member student = new Member("LotteryStudent" + i, "lottery" + i + "@example.com", "010-8001-" + String.format("%04d", i), "Password1!", MemberType.STUDENT);
+            studentIds.add(memberRepository.save(student).getId());
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("추첨 기간 설정 테스트")
+    public void testOpenLottery() throws Exception {
+        closesAt = LocalDateTime.now().plusSeconds(2);
+        LotteryWindowRequest request = new LotteryWindowRequest(null, closesAt, SEED);
+
+        mockMvc.perform(post("/api/courses/" + courseId + "/lottery")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.drawn").value(false))
+                .andExpect(jsonPath("$.seed").doesNotExist());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("추첨 기간 수강 신청 테스트 - 좌석 대신 신청만 접수된다")
+    @WithMockUser(username = "lottery1@example.com", roles = "STUDENT")
+    public void testEnrollDuringLotteryWindow() throws Exception {
+        for (Long studentId : studentIds) {
+            enroll(studentId)
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.result").value("PENDING"));
+        }
+
+        enroll(studentIds.get(0))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("이미 추첨 신청한 강좌입니다."));
+
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        assertThat(course.getCurrentEnrollmentCount()).isZero();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("신청 기간 중 추첨 테스트 - 거절된다")
+    public void testDrawBeforeClose() throws Exception {
+        mockMvc.perform(post("/api/courses/" + courseId + "/lottery/draw"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("추첨 신청 기간이 끝나지 않았습니다."));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("추첨 테스트 - 남은 좌석만큼 한 번에 배정하고 저장된 시드와 좌석 수로 결과를 재현할 수 있다")
+    @WithMockUser(username = "lottery1@example.com", roles = "STUDENT")
+    public void testDraw() throws Exception {
+        Thread.sleep(Math.max(0, Duration.between(LocalDateTime.now(), closesAt).toMillis() + 100));
+
+        // 추첨 전에 다른 경로로 이미 수강 중인 신청자는 후보에서 빠지고, 남은 좌석도 그만큼 줄어든다
+        Long enrolledBeforeDraw = studentIds.get(studentIds.size() - 1);
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        enrollmentRepository.save(new Enrollment(memberRepository.findById(enrolledBeforeDraw).orElseThrow(), course));
+        course.increaseEnrollmentCount();
+        courseRepository.save(course);
+
+        MvcResult result = mockMvc.perform(post("/api/courses/" + courseId + "/lottery/draw"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.drawn").value(true))
+                .andExpect(jsonPath("$.applicantCount").value(8))
+                .andExpect(jsonPath("$.seatCount").value(2))
+                .andExpect(jsonPath("$.winnerCount").value(2))
+                .andReturn();
+        JsonNode lottery = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(lottery.get("seed").asLong()).isEqualTo(SEED);
+
+        // EXCLUDED 가 아닌 신청(신청 순서), 저장된 좌석 수와 시드만으로 당첨자를 다시 계산할 수 있다
+        candidateIds = studentIds.stream().filter(id -> !id.equals(enrolledBeforeDraw)).toList();
+        List<Long> expectedWinners = LotteryDraw.pickWinners(candidateIds, lottery.get("seatCount").asInt(), SEED);
+        course = courseRepository.findById(courseId).orElseThrow();
+        List<Long> enrolledStudentIds = enrollmentRepository.findByCourse(course).stream()
+                .map(Enrollment::getStudent)
+                .map(Member::getId)
+                .toList();
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(3);
+        assertThat(enrolledStudentIds).containsExactlyInAnyOrderElementsOf(
+                concat(expectedWinners, enrolledBeforeDraw));
+
+        for (Long studentId : studentIds) {
+            String expected = studentId.equals(enrolledBeforeDraw) ? "EXCLUDED"
+                    : expectedWinners.contains(studentId) ? "WON" : "LOST";
+            mockMvc.perform(get("/api/enrollments/lottery")
+                            .param("studentId", studentId.toString())
+                            .param("courseId", courseId.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(expected));
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("추첨 후 테스트 - 다시 추첨할 수 없고 수강 신청은 선착순으로 돌아간다")
+    @WithMockUser(username = "lottery1@example.com", roles = "STUDENT")
+    public void testAfterDraw() throws Exception {
+        mockMvc.perform(post("/api/courses/" + courseId + "/lottery/draw"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("이미 추첨이 끝난 강좌입니다."));
+
+        List<Long> winners = LotteryDraw.pickWinners(candidateIds, 2, SEED);
+        Long loserId = candidateIds.stream().filter(id -> !winners.contains(id)).findFirst().orElseThrow();
+        enroll(loserId)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("수강 신청 인원이 꽉 찼습니다."));
+    }
+
+    private static List<Long> concat(List<Long> ids, Long id) {
+        List<Long> all = new ArrayList<>(ids);
+        all.add(id);
+        return all;
+    }
+
+    private ResultActions enroll(Long studentId) throws Exception {
+        EnrollmentRequest request = new EnrollmentRequest(studentId, courseId);
+        return mockMvc.perform(post("/api/enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}
@@ -0,0 +1,77 @@
+package wb.wolbu.integration;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wb.wolbu.dto.EnrollmentResult;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.facade.EnrollmentFacade;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "enrollment.multiple.mode=parallel",
+        "enrollment.multiple.threads=4",
+        "enrollment.multiple.max-concurrency-per-cart=2"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ParallelMultipleEnrollmentTest {
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EnrollmentFacade enrollmentFacade;
+
+    private Long studentId;
+    private Long fullCourseId;
+    private final List<Long> openCourseIds = new ArrayList<>();
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = new Member("Instructor", "parallel-instructor@example.com", "010-5000-0000", "Password1!", MemberType.INSTRUCTOR);
+        instructor = memberRepository.save(instructor);
+
+        for (int i = 0; i < 5; i++) {
+            Course course = new Course("Parallel Test Course" + i, 10, 100000, instructor);
+            openCourseIds.add(courseRepository.save(course).getId());
+        }
+
+        // 다른 학생으로 정원을 채워둔 강좌
+        Course fullCourse = courseRepository.save(new Course("Parallel Full Course", 1, 100000, instructor));
+        fullCourseId = fullCourse.getId();
+        Member other = memberRepository.save(new Member("Other", "parallel-other@example.com", "010-5000-0001", "Password1!", MemberType.STUDENT));
+        enrollmentFacade.enrollCourse(other.getId(), fullCourseId);
+
+        studentId = memberRepository.save(new Member("ParallelStudent", "parallel-student@example.com", "010-5000-0002", "Password1!", MemberType.STUDENT)).getId();
+    }
+
+    @Test
+    @DisplayName("병렬 모드 여러 강좌 수강 신청 - 매진 강좌가 있어도 나머지 강좌는 요청 순서대로 결과를 받는다")
+    void enrollMultipleCourses_InParallelMode_ShouldReturnResultPerCourse() {
+        // given
+        List<Long> cart = new ArrayList<>(openCourseIds);
+        cart.add(1, fullCourseId);
+        cart.add(openCourseIds.get(0));
+
+        // when
+        List<EnrollmentResult> results = enrollmentFacade.enrollMultipleCourses(studentId, cart);
+
+        // then
+        assertThat(results).extracting(EnrollmentResult::getCourseId).containsExactlyElementsOf(cart);
+        assertThat(results).extracting(EnrollmentResult::isSuccess)
+                .containsExactly(true, false, true, true, true, true, false);
+        assertThat(results.get(1).getErrorMessage()).isEqualTo("수강 신청 인원이 꽉 찼습니다.");
+        assertThat(results.get(6).getErrorMessage()).isEqualTo("이미 수강 중인 강좌입니다.");
+        for (Long courseId : openCourseIds) {
+            assertThat(courseRepository.findById(courseId).orElseThrow().getCurrentEnrollmentCount()).isEqualTo(1);
+        }
+    }
+}
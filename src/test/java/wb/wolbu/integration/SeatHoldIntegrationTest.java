@@ -0,0 +1,89 @@
+package wb.wolbu.integration;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.repository.SeatHoldRepository;
+import wb.wolbu.service.EnrollmentService;
+import wb.wolbu.service.SeatHoldService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "enrollment.hold.ttl-ms=300",
+        "enrollment.hold.tick-ms=50"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SeatHoldIntegrationTest {
+    @Autowired
+    private SeatHoldService seatHoldService;
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private SeatHoldRepository seatHoldRepository;
+
+    private Long courseId;
+    private Long holdingStudentId;
+    private Long otherStudentId;
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = memberRepository.save(new Member("Instructor", "hold-instructor@example.com", "010-7000-0000", "Password1!", MemberType.INSTRUCTOR));
+        courseId = courseRepository.save(new Course("Hold Test Course", 1, 100000, instructor)).getId();
+        holdingStudentId = memberRepository.save(new Member("Holding", "hold-student@example.com", "010-7000-0001", "Password1!", MemberType.STUDENT)).getId();
+        otherStudentId = memberRepository.save(new Member("Other", "hold-other@example.com", "010-7000-0002", "Password1!", MemberType.STUDENT)).getId();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("좌석 확보 테스트 - 확보된 좌석은 정원에 포함되고 만료되면 자동으로 반환된다")
+    void holdSeat_ShouldCountAgainstCapacityUntilExpired() throws Exception {
+        seatHoldService.holdSeat(holdingStudentId, courseId);
+
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(otherStudentId, courseId))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessageContaining("수강 신청 인원이 꽉 찼습니다.");
+
+        awaitHeldSeatCount(0);
+        assertThat(seatHoldRepository.findByStudentIdAndCourseId(holdingStudentId, courseId)).isEmpty();
+        assertThatThrownBy(() -> seatHoldService.confirmHold(holdingStudentId, courseId))
+                .isInstanceOf(BusinessLogicException.class);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("좌석 확정 테스트 - 확보한 좌석이 수강 인원으로 전환된다")
+    void confirmHold_ShouldTurnHeldSeatIntoEnrollment() {
+        seatHoldService.holdSeat(holdingStudentId, courseId);
+
+        Enrollment enrollment = seatHoldService.confirmHold(holdingStudentId, courseId);
+
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        assertThat(enrollment.getId()).isNotNull();
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(1);
+        assertThat(course.getHeldSeatCount()).isZero();
+    }
+
+    private void awaitHeldSeatCount(int expected) throws InterruptedException {
+        for (int i = 0; i < 40; i++) {
+            if (courseRepository.findById(courseId).orElseThrow().getHeldSeatCount() == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("확보 좌석이 제시간에 반환되지 않았습니다.");
+    }
+}
@@ -0,0 +1,123 @@
+package wb.wolbu.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import wb.wolbu.dto.EnrollmentRequest;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.repository.WaitlistEntryRepository;
+import wb.wolbu.service.EnrollmentService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class WaitlistIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Long enrolledStudentId;
+    private Long firstWaitingStudentId;
+    private Long secondWaitingStudentId;
+    private Long courseId;
+
+    @BeforeAll
+    public void setUp() {
+        Member instructor = memberRepository.save(new Member("Instructor", "waitlist-instructor@example.com", "010-6000-0000", "Password1!", MemberType.INSTRUCTOR));
+        courseId = courseRepository.save(new Course("Waitlist Test Course", 1, 100000, instructor)).getId();
+
+        enrolledStudentId = memberRepository.save(new Member("Enrolled", "waitlist-enrolled@example.com", "010-6000-0001", "Password1!", MemberType.STUDENT)).getId();
+        firstWaitingStudentId = memberRepository.save(new Member("FirstWaiting", "waitlist-first@example.com", "010-6000-0002", "Password1!", MemberType.STUDENT)).getId();
+        secondWaitingStudentId = memberRepository.save(new Member("SecondWaiting", "waitlist-second@example.com", "010-6000-0003", "Password1!", MemberType.STUDENT)).getId();
+
+        enrollmentService.enrollCourse(enrolledStudentId, courseId);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("대기 등록 테스트 - 등록 순서대로 순번을 받는다")
+    @WithMockUser(username = "waitlist-first@example.com", roles = "STUDENT")
+    public void testJoinWaitlist() throws Exception {
+        joinWaitlist(firstWaitingStudentId)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.position").value(1));
+        joinWaitlist(secondWaitingStudentId)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.position").value(2));
+
+        joinWaitlist(secondWaitingStudentId)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("이미 대기 중인 강좌입니다."));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("수강 취소 테스트 - 대기열 맨 앞 학생이 같은 트랜잭션에서 수강생이 된다")
+    @WithMockUser(username = "waitlist-second@example.com", roles = "STUDENT")
+    public void testCancelPromotesHeadOfWaitlist() throws Exception {
+        enrollmentService.cancelEnrollment(enrolledStudentId, courseId);
+
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(1);
+        assertThat(enrollmentRepository.findByCourse(course))
+                .extracting(enrollment -> enrollment.getStudent().getId())
+                .containsExactly(firstWaitingStudentId);
+        assertThat(waitlistEntryRepository.findByStudentIdAndCourseId(firstWaitingStudentId, courseId)).isEmpty();
+
+        mockMvc.perform(get("/api/enrollments/waitlist")
+                        .param("studentId", String.valueOf(secondWaitingStudentId))
+                        .param("courseId", String.valueOf(courseId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value(1))
+                .andExpect(jsonPath("$.waitingCount").value(1));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("대기 취소 테스트")
+    @WithMockUser(username = "waitlist-second@example.com", roles = "STUDENT")
+    public void testLeaveWaitlist() throws Exception {
+        mockMvc.perform(delete("/api/enrollments/waitlist")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EnrollmentRequest(secondWaitingStudentId, courseId))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/enrollments/waitlist")
+                        .param("studentId", String.valueOf(secondWaitingStudentId))
+                        .param("courseId", String.valueOf(courseId)))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions joinWaitlist(Long studentId) throws Exception {
+        return mockMvc.perform(post("/api/enrollments/waitlist")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EnrollmentRequest(studentId, courseId))));
+    }
+}
@@ -0,0 +1,98 @@
+package wb.wolbu.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.exception.custom.LockTimeoutExceededException;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseLockRepositoryTest {
+    private static final Long COURSE_ID = 1L;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CourseLockRepositoryImpl courseLockRepository;
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentProperties enrollmentProperties = new EnrollmentProperties();
+        enrollmentProperties.getLock().setTimeoutMs(500);
+        enrollmentProperties.getLock().setRetryAfterSeconds(2);
+        courseLockRepository = new CourseLockRepositoryImpl(enrollmentProperties, meterRegistry);
+        ReflectionTestUtils.setField(courseLockRepository, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("설정한 대기 시간을 락 힌트로 넘기고 대기 시간을 기록한다")
+    void findByIdWithPessimisticLock_ShouldPassTimeoutHintAndRecordWait() {
+        // given
+        Member instructor = new Member("Instructor", "lock-instructor@example.com", "010-9300-0000", "Password1!", MemberType.INSTRUCTOR);
+        Course course = new Course("Course", 10, 50000, instructor);
+        given(entityManager.find(Course.class, COURSE_ID, LockModeType.PESSIMISTIC_WRITE,
+                Map.<String, Object>of("jakarta.persistence.lock.timeout", 500))).willReturn(course);
+
+        // when
+        var result = courseLockRepository.findByIdWithPessimisticLock(COURSE_ID);
+
+        // then
+        assertThat(result).containsSame(course);
+        assertThat(meterRegistry.get("enrollment.course.lock.wait").tag("scope", "single").tag("outcome", "acquired").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락 대기 시간을 넘기면 재시도 가능한 503 예외로 바꾼다")
+    void findByIdWithPessimisticLock_WhenLockTimesOut_ShouldThrowRetryableException() {
+        // given
+        given(entityManager.find(Course.class, COURSE_ID, LockModeType.PESSIMISTIC_WRITE,
+                Map.<String, Object>of("jakarta.persistence.lock.timeout", 500))).willThrow(new LockTimeoutException());
+
+        // when & then
+        assertThatThrownBy(() -> courseLockRepository.findByIdWithPessimisticLock(COURSE_ID))
+                .isInstanceOf(LockTimeoutExceededException.class)
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2L);
+        assertThat(meterRegistry.get("enrollment.course.lock.wait").tag("scope", "single").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락 경합으로 문장이 실패해도 같은 예외로 바꾼다")
+    void findByIdWithPessimisticLock_WhenPessimisticLockFails_ShouldThrowRetryableException() {
+        // given
+        given(entityManager.find(Course.class, COURSE_ID, LockModeType.PESSIMISTIC_WRITE,
+                Map.<String, Object>of("jakarta.persistence.lock.timeout", 500))).willThrow(new PessimisticLockException());
+
+        // when & then
+        assertThatThrownBy(() -> courseLockRepository.findByIdWithPessimisticLock(COURSE_ID))
+                .isInstanceOf(LockTimeoutExceededException.class);
+    }
+
+    @Test
+    @DisplayName("락 대기 타이머는 생성 시점에 모두 등록되어 있다")
+    void constructor_ShouldRegisterWaitTimersUpFront() {
+        // when & then
+        assertThat(meterRegistry.get("enrollment.course.lock.wait").timers()).hasSize(4);
+    }
+}
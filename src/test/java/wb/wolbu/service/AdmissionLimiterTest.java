@@ -0,0 +1,168 @@
+package wb.wolbu.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.exception.custom.TooManyRequestsException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AdmissionLimiterTest {
+    private static final Long COURSE_ID = 1L;
+    private static final Long OTHER_COURSE_ID = 2L;
+
+    private EnrollmentProperties enrollmentProperties;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentProperties = new EnrollmentProperties();
+        EnrollmentProperties.Admission admission = enrollmentProperties.getAdmission();
+        admission.setGlobalLimit(5);
+        admission.setInitialCourseLimit(3);
+        admission.setMinCourseLimit(1);
+        admission.setMaxCourseLimit(10);
+        admission.setRetryAfterSeconds(2);
+    }
+
+    @Test
+    @DisplayName("강좌 한도를 넘는 요청은 기다리지 않고 429로 거절된다")
+    void acquire_OverCourseLimit_ShouldThrowTooManyRequests() {
+        // given
+        AdmissionLimiter limiter = newLimiter();
+        holdPermits(limiter, COURSE_ID, 3);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(COURSE_ID))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2L);
+        // 다른 강좌는 영향을 받지 않는다
+        limiter.acquire(OTHER_COURSE_ID).close();
+    }
+
+    @Test
+    @DisplayName("전체 한도를 넘으면 여유가 있는 강좌도 거절된다")
+    void acquire_OverGlobalLimit_ShouldThrowTooManyRequests() {
+        // given
+        AdmissionLimiter limiter = newLimiter();
+        holdPermits(limiter, COURSE_ID, 3);
+        holdPermits(limiter, OTHER_COURSE_ID, 2);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(3L))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("반환한 허가만큼 다시 받을 수 있다")
+    void acquire_AfterRelease_ShouldAdmitAgain() {
+        // given
+        AdmissionLimiter limiter = newLimiter();
+        List<AdmissionLimiter.Permit> permits = holdPermits(limiter, COURSE_ID, 3);
+
+        // when
+        permits.get(0).close();
+        permits.get(0).close();
+
+        // then
+        limiter.acquire(COURSE_ID);
+        assertThatThrownBy(() -> limiter.acquire(COURSE_ID))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("처리 시간이 목표보다 길면 강좌 한도가 줄어든다")
+    void release_WithSlowRequests_ShouldDecreaseLimit() {
+        // given
+        enrollmentProperties.getAdmission().setTargetLatencyMs(-1);
+        AdmissionLimiter limiter = newLimiter();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(COURSE_ID).close();
+        }
+
+        // then
+        assertThat(limiter.limitOf(COURSE_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도까지 찬 상태에서 빠르게 처리되면 강좌 한도가 늘어난다")
+    void release_WithFastSaturatedRequests_ShouldIncreaseLimit() {
+        // given
+        enrollmentProperties.getAdmission().setTargetLatencyMs(60000);
+        AdmissionLimiter limiter = newLimiter();
+
+        // when
+        for (int round = 0; round < 20; round++) {
+            holdPermits(limiter, COURSE_ID, limiter.limitOf(COURSE_ID)).forEach(AdmissionLimiter.Permit::close);
+        }
+
+        // then
+        assertThat(limiter.limitOf(COURSE_ID)).isGreaterThan(3).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("강좌별 한도는 최대 강좌 수를 넘겨 쌓이지 않는다")
+    void acquire_ForManyCourses_ShouldBoundTrackedLimits() {
+        // given
+        enrollmentProperties.getAdmission().setMaxTrackedCourses(10);
+        AdmissionLimiter limiter = newLimiter();
+
+        // when
+        for (long courseId = 1; courseId <= 1000; courseId++) {
+            limiter.acquire(courseId).close();
+        }
+
+        // then
+        assertThat(limiter.trackedCourses()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한동안 신청이 없던 강좌의 한도는 버려지고 다시 시작값부터 잡는다")
+    void acquire_AfterIdleExpiry_ShouldStartFromInitialLimit() throws Exception {
+        // given
+        enrollmentProperties.getAdmission().setTargetLatencyMs(-1);
+        enrollmentProperties.getAdmission().setIdleExpireMs(50);
+        AdmissionLimiter limiter = newLimiter();
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(COURSE_ID).close();
+        }
+        assertThat(limiter.limitOf(COURSE_ID)).isEqualTo(1);
+
+        // when
+        Thread.sleep(100);
+
+        // then
+        assertThat(limiter.trackedCourses()).isZero();
+        assertThat(limiter.limitOf(COURSE_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 한도 없이 통과한다")
+    void acquire_WhenDisabled_ShouldAlwaysAdmit() {
+        // given
+        enrollmentProperties.getAdmission().setEnabled(false);
+        AdmissionLimiter limiter = newLimiter();
+
+        // when & then
+        holdPermits(limiter, COURSE_ID, 100);
+    }
+
+    private AdmissionLimiter newLimiter() {
+        return new AdmissionLimiter(enrollmentProperties, new SimpleMeterRegistry());
+    }
+
+    private List<AdmissionLimiter.Permit> holdPermits(AdmissionLimiter limiter, Long courseId, int count) {
+        List<AdmissionLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire(courseId));
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,248 @@
+package wb.wolbu.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseRankingTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private EnrollmentProperties enrollmentProperties;
+    private CourseRanking courseRanking;
+    private Member instructor;
+    private final List<Course> courses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        enrollmentProperties = new EnrollmentProperties();
+        enrollmentProperties.getRanking().setDepth(3);
+        courseRanking = new CourseRanking(courseRepository, enrollmentProperties);
+        instructor = new Member("Instructor", "ranking-instructor@example.com", "010-9600-0000", "Password1!", MemberType.INSTRUCTOR);
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 랭킹에서 응답하지 않는다")
+    void page_BeforeRebuild_ShouldFallBackToDatabase() {
+        // when & then
+        assertThat(courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상위 페이지는 점수 내림차순, 동점이면 ID 내림차순으로 응답한다")
+    void page_WithinDepth_ShouldReturnRankedCourses() {
+        // given
+        addCourse(1L, 10, 3);
+        addCourse(2L, 10, 5);
+        addCourse(3L, 10, 5);
+        addCourse(4L, 10, 1);
+        rebuild();
+
+        // when
+        Page<CourseDTO> page = courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 2)).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(CourseDTO::getId).containsExactly(3L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("랭킹에 들고 있는 범위보다 깊은 페이지는 DB로 넘긴다")
+    void page_BeyondDepth_ShouldFallBackToDatabase() {
+        // given
+        for (long id = 1; id <= 4; id++) {
+            addCourse(id, 10, (int) id);
+        }
+        rebuild();
+
+        // when & then
+        assertThat(courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(1, 2))).isEmpty();
+        assertThat(courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 3))).isPresent();
+    }
+
+    @Test
+    @DisplayName("전체 강좌가 랭킹에 들어 있으면 마지막 페이지까지 응답한다")
+    void page_WhenAllCoursesRanked_ShouldServeEveryPage() {
+        // given
+        addCourse(1L, 10, 1);
+        addCourse(2L, 10, 2);
+        rebuild();
+
+        // when
+        Optional<Page<CourseDTO>> page = courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(1, 2));
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("신청으로 바뀐 강좌는 다음 갱신 때 순위가 올라간다")
+    void refresh_AfterEnrollment_ShouldMoveCourseUp() {
+        // given
+        addCourse(1L, 10, 1);
+        addCourse(2L, 10, 2);
+        rebuild();
+        Course course = courses.get(0);
+        course.increaseEnrollmentCount(5);
+        given(courseRepository.findViewsByIdIn(List.of(1L))).willReturn(List.of(CourseDTO.from(course)));
+
+        // when
+        courseRanking.onCourseChanged(CourseChangedEvent.updated(1L));
+        courseRanking.refresh();
+
+        // then
+        Page<CourseDTO> popular = courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 2)).orElseThrow();
+        assertThat(popular.getContent()).extracting(CourseDTO::getId).containsExactly(1L, 2L);
+        assertThat(popular.getContent().get(0).getCurrentEnrollmentCount()).isEqualTo(6);
+        Page<CourseDTO> rate = courseRanking.page(CourseRanking.Type.ENROLLMENT_RATE, PageRequest.of(0, 2)).orElseThrow();
+        assertThat(rate.getContent()).extracting(CourseDTO::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("상위권 밖으로 밀려난 강좌는 랭킹에서 빠지고, 그 아래 페이지는 DB로 넘긴다")
+    void refresh_WhenCourseDropsBelowTail_ShouldShrinkRanking() {
+        // given
+        for (long id = 1; id <= 4; id++) {
+            addCourse(id, 10, (int) id + 1);
+        }
+        rebuild();
+        Course course = courses.get(3);
+        course.decreaseEnrollmentCount();
+        course.decreaseEnrollmentCount();
+        course.decreaseEnrollmentCount();
+        course.decreaseEnrollmentCount();
+        given(courseRepository.findViewsByIdIn(List.of(4L))).willReturn(List.of(CourseDTO.from(course)));
+
+        // when
+        courseRanking.onCourseChanged(CourseChangedEvent.updated(4L));
+        courseRanking.refresh();
+
+        // then
+        assertThat(courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 2)).orElseThrow().getContent())
+                .extracting(CourseDTO::getId).containsExactly(3L, 2L);
+        assertThat(courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 3))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 강좌는 랭킹과 전체 개수에서 빠진다")
+    void refresh_AfterDelete_ShouldRemoveCourse() {
+        // given
+        addCourse(1L, 10, 1);
+        addCourse(2L, 10, 2);
+        rebuild();
+        given(courseRepository.findViewsByIdIn(List.of(2L))).willReturn(List.of());
+
+        // when
+        courseRanking.onCourseChanged(new CourseChangedEvent(2L, CourseChangedEvent.Change.DELETED));
+        courseRanking.refresh();
+
+        // then
+        Page<CourseDTO> page = courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 2)).orElseThrow();
+        assertThat(page.getContent()).extracting(CourseDTO::getId).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성과 갱신 중에 읽어도 비거나 잘린 페이지를 받지 않는다")
+    void page_DuringRebuildAndRefresh_ShouldAlwaysSeeWholePage() throws Exception {
+        // given
+        for (long id = 1; id <= 4; id++) {
+            addCourse(id, 10, (int) id);
+        }
+        rebuild();
+        given(courseRepository.findViewsByIdIn(List.of(4L))).willReturn(List.of(CourseDTO.from(courses.get(3))));
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<List<Long>> broken = new CopyOnWriteArrayList<>();
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            readers.submit(() -> {
+                while (running.get()) {
+                    List<Long> ids = courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 3))
+                            .map(page -> page.getContent().stream().map(CourseDTO::getId).toList())
+                            .orElse(List.of());
+                    if (!ids.equals(List.of(4L, 3L, 2L))) {
+                        broken.add(ids);
+                    }
+                }
+            });
+        }
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            courseRanking.rebuild();
+            courseRanking.onCourseChanged(CourseChangedEvent.updated(4L));
+            courseRanking.refresh();
+        }
+        running.set(false);
+        readers.shutdown();
+
+        // then
+        assertThat(readers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broken).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 DB로 넘긴다")
+    void page_WhenDisabled_ShouldFallBackToDatabase() {
+        // given
+        addCourse(1L, 10, 1);
+        rebuild();
+        enrollmentProperties.getRanking().setEnabled(false);
+
+        // when & then
+        assertThat(courseRanking.page(CourseRanking.Type.POPULAR, PageRequest.of(0, 2))).isEmpty();
+    }
+
+    private void addCourse(Long id, int maxStudents, int enrolled) {
+        Course course = new Course("Course " + id, maxStudents, 10000, instructor);
+        ReflectionTestUtils.setField(course, "id", id);
+        course.increaseEnrollmentCount(enrolled);
+        courses.add(course);
+    }
+
+    // 저장소가 정렬 쿼리 결과(상위 depth 개의 프로젝션)를 돌려주는 것처럼 만든 뒤 재구성
+    private void rebuild() {
+        int depth = enrollmentProperties.getRanking().getDepth();
+        given(courseRepository.findPopularFirst(any())).willReturn(top(Comparator.comparingInt(Course::getCurrentEnrollmentCount), depth));
+        given(courseRepository.findEnrollmentRateFirst(any())).willReturn(top(Comparator.comparingDouble(Course::getEnrollmentRate), depth));
+        given(courseRepository.count()).willReturn((long) courses.size());
+        courseRanking.rebuild();
+    }
+
+    private List<CourseDTO> top(Comparator<Course> score, int depth) {
+        return courses.stream()
+                .sorted(score.thenComparing(Course::getId).reversed())
+                .limit(depth)
+                .map(CourseDTO::from)
+                .toList();
+    }
+}
@@ -11,6 +11,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.dto.UpdateCourseRequest;
 import wb.wolbu.entity.Course;
 import wb.wolbu.entity.Enrollment;
 import wb.wolbu.entity.Member;
@@ -27,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +41,10 @@ public class CourseServiceTest {
     private MemberRepository memberRepository;
     @Mock
     private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private CourseRanking courseRanking;
+    @Mock
+    private CourseViewCache courseViewCache;
 
     @InjectMocks
     private CourseService courseService;
@@ -109,12 +116,12 @@ public class CourseServiceTest {
     void getCourses_SortByRecent_ShouldReturnSortedCourses() {
         // given
         PageRequest pageRequest = PageRequest.of(0, 3);
-        Page<Course> coursePage = new PageImpl<>(courses.subList(0, 3), pageRequest, courses.size());
+        Page<CourseDTO> coursePage = new PageImpl<>(views(courses.subList(0, 3)), pageRequest, courses.size());
 
-        given(courseRepository.findAllByOrderByCreatedAtDesc(pageRequest)).willReturn(coursePage);
+        given(courseRepository.findRecentViews(pageRequest)).willReturn(coursePage);
 
         // when
-        Page<Course> result = courseService.getCourses(0, 3, "recent");
+        Page<CourseDTO> result = courseService.getCourses(0, 3, "recent");
 
         // then
         assertThat(result.getContent()).hasSize(3);
@@ -124,7 +131,7 @@ public class CourseServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(5);
         assertThat(result.getTotalPages()).isEqualTo(2);
 
-        verify(courseRepository).findAllByOrderByCreatedAtDesc(pageRequest);
+        verify(courseRepository).findRecentViews(pageRequest);
     }
 
     @Test
@@ -133,14 +140,14 @@ public class CourseServiceTest {
         // given
         PageRequest pageRequest = PageRequest.of(0, 3);
         // 수강생 수에 따라 정렬된 결과를 시뮬레이션합니다.
-        Page<Course> coursePage = new PageImpl<>(Arrays.asList(
+        Page<CourseDTO> coursePage = new PageImpl<>(views(Arrays.asList(
                 courses.get(4), courses.get(3), courses.get(2)
-        ), pageRequest, courses.size());
+        )), pageRequest, courses.size());
 
-        given(courseRepository.findAllByOrderByCurrentEnrollmentCountDesc(pageRequest)).willReturn(coursePage);
+        given(courseRepository.findPopularViews(pageRequest)).willReturn(coursePage);
 
         // when
-        Page<Course> result = courseService.getCourses(0, 3, "popular");
+        Page<CourseDTO> result = courseService.getCourses(0, 3, "popular");
 
         // then
         assertThat(result.getContent()).hasSize(3);
@@ -150,7 +157,7 @@ public class CourseServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(5);
         assertThat(result.getTotalPages()).isEqualTo(2);
 
-        verify(courseRepository).findAllByOrderByCurrentEnrollmentCountDesc(pageRequest);
+        verify(courseRepository).findPopularViews(pageRequest);
     }
 
     @Test
@@ -159,14 +166,14 @@ public class CourseServiceTest {
         // given
         PageRequest pageRequest = PageRequest.of(0, 3);
         // 수강률에 따라 정렬된 결과를 시뮬레이션합니다.
-        Page<Course> coursePage = new PageImpl<>(Arrays.asList(
+        Page<CourseDTO> coursePage = new PageImpl<>(views(Arrays.asList(
                 courses.get(0), courses.get(1), courses.get(2)
-        ), pageRequest, courses.size());
+        )), pageRequest, courses.size());
 
-        given(courseRepository.findAllOrderByEnrollmentRateDesc(pageRequest)).willReturn(coursePage);
+        given(courseRepository.findEnrollmentRateViews(pageRequest)).willReturn(coursePage);
 
         // when
-        Page<Course> result = courseService.getCourses(0, 3, "highEnrollmentRate");
+        Page<CourseDTO> result = courseService.getCourses(0, 3, "highEnrollmentRate");
 
         // then
         assertThat(result.getContent()).hasSize(3);
@@ -176,29 +183,45 @@ public class CourseServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(5);
         assertThat(result.getTotalPages()).isEqualTo(2);
 
-        verify(courseRepository).findAllOrderByEnrollmentRateDesc(pageRequest);
+        verify(courseRepository).findEnrollmentRateViews(pageRequest);
+    }
+
+    @Test
+    @DisplayName("강좌 목록 조회 - 인기순 앞쪽 페이지는 인메모리 랭킹에서 응답한다")
+    void getCourses_SortByPopularWithinRanking_ShouldNotQueryDatabase() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 3);
+        Page<CourseDTO> ranked = new PageImpl<>(List.of(CourseDTO.from(courses.get(4))), pageRequest, 1);
+        given(courseRanking.page(CourseRanking.Type.POPULAR, pageRequest)).willReturn(Optional.of(ranked));
+
+        // when
+        Page<CourseDTO> result = courseService.getCourses(0, 3, "popular");
+
+        // then
+        assertThat(result).isSameAs(ranked);
+        verify(courseRepository, never()).findPopularViews(any());
     }
 
     @Test
     @DisplayName("강좌 상세 조회")
     void getCourseById_WithExistingId_ShouldReturnCourse() {
         // given
-        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        CourseDTO view = CourseDTO.from(course);
+        given(courseViewCache.get(1L)).willReturn(Optional.of(view));
 
         // when
-        Course foundCourse = courseService.getCourseById(1L);
+        CourseDTO foundCourse = courseService.getCourseById(1L);
 
         // then
-        assertThat(foundCourse).isEqualTo(course);
-
-        verify(courseRepository).findById(1L);
+        assertThat(foundCourse).isSameAs(view);
+        verify(courseRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("강좌 상세 조회 - 존재하지 않는 ID로 조회 시 EntityNotFoundException을 던진다")
     void getCourseById_WithNonExistingId_ShouldThrowEntityNotFoundException() {
         // given
-        given(courseRepository.findById(999L)).willReturn(Optional.empty());
+        given(courseViewCache.get(999L)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> courseService.getCourseById(999L))
@@ -206,22 +229,51 @@ public class CourseServiceTest {
                 .hasMessageContaining("해당 강좌를 찾을 수 없습니다");
     }
 
+    @Test
+    @DisplayName("강좌 수정 - 정원이 바뀌면 저장된 신청률도 다시 계산한다")
+    void updateCourse_WithNewMaxStudents_ShouldRecalculateEnrollmentRate() {
+        // given
+        Course fullCourse = new Course("Full Course", 2, 10000, instructor);
+        fullCourse.increaseEnrollmentCount(2);
+        given(courseRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(fullCourse));
+        given(courseRepository.save(fullCourse)).willReturn(fullCourse);
+
+        // when
+        Course updated = courseService.updateCourse(1L, new UpdateCourseRequest("Full Course", 8, 10000));
+
+        // then
+        assertThat(updated.getEnrollmentRate()).isEqualTo(0.25);
+    }
+
     @Test
     @DisplayName("강사의 강좌 목록 조회")
     void getInstructorCourses_WithExistingInstructorId_ShouldReturnCourses() {
         // given
-        given(memberRepository.findById(1L)).willReturn(Optional.of(instructor));
-        given(courseRepository.findByInstructor(instructor)).willReturn(courses);
+        List<CourseDTO> views = views(courses);
+        given(memberRepository.existsById(1L)).willReturn(true);
+        given(courseRepository.findViewsByInstructorId(1L)).willReturn(views);
 
         // when
-        List<Course> instructorCourses = courseService.getInstructorCourses(1L);
+        List<CourseDTO> instructorCourses = courseService.getInstructorCourses(1L);
 
         // then
         assertThat(instructorCourses).hasSize(5);
-        assertThat(instructorCourses).containsExactlyElementsOf(courses);
+        assertThat(instructorCourses).containsExactlyElementsOf(views);
 
-        verify(memberRepository).findById(1L);
-        verify(courseRepository).findByInstructor(instructor);
+        verify(courseRepository).findViewsByInstructorId(1L);
+    }
+
+    @Test
+    @DisplayName("강사의 강좌 목록 조회 - 존재하지 않는 강사면 EntityNotFoundException을 던진다")
+    void getInstructorCourses_WithNonExistingInstructorId_ShouldThrowEntityNotFoundException() {
+        // given
+        given(memberRepository.existsById(999L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> courseService.getInstructorCourses(999L))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("해당 강사를 찾을 수 없습니다");
+        verify(courseRepository, never()).findViewsByInstructorId(any());
     }
 
     @Test
@@ -244,4 +296,7 @@ public class CourseServiceTest {
         verify(enrollmentRepository).findByStudent(student);
     }
 
+    private List<CourseDTO> views(List<Course> courses) {
+        return courses.stream().map(CourseDTO::from).toList();
+    }
 }
@@ -0,0 +1,163 @@
+package wb.wolbu.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.CourseDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseViewCacheTest {
+    private static final Long COURSE_ID = 1L;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private EnrollmentProperties enrollmentProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentProperties = new EnrollmentProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        Member instructor = new Member("Instructor", "cache-instructor@example.com", "010-9700-0000", "Password1!", MemberType.INSTRUCTOR);
+        course = new Course("Cached Course", 10, 10000, instructor);
+        ReflectionTestUtils.setField(course, "id", COURSE_ID);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 읽지 않고 적중으로 기록된다")
+    void get_Twice_ShouldLoadOnce() {
+        // given
+        CourseViewCache cache = newCache();
+        given(courseRepository.findViewById(COURSE_ID)).willAnswer(invocation -> view());
+
+        // when
+        cache.get(COURSE_ID);
+        Optional<CourseDTO> cached = cache.get(COURSE_ID);
+
+        // then
+        assertThat(cached).map(CourseDTO::getInstructorName).hasValue("Instructor");
+        verify(courseRepository, times(1)).findViewById(COURSE_ID);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "course.view").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "course.view").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 강좌는 캐시하지 않는다")
+    void get_WithMissingCourse_ShouldNotCacheAbsence() {
+        // given
+        CourseViewCache cache = newCache();
+        given(courseRepository.findViewById(COURSE_ID)).willReturn(Optional.empty()).willAnswer(invocation -> view());
+
+        // when & then
+        assertThat(cache.get(COURSE_ID)).isEmpty();
+        assertThat(cache.get(COURSE_ID)).isPresent();
+    }
+
+    @Test
+    @DisplayName("수강 인원이 바뀌면 항목을 지워 다음 조회가 새 값을 읽는다")
+    void onCourseChanged_ShouldInvalidateEntry() {
+        // given
+        CourseViewCache cache = newCache();
+        given(courseRepository.findViewById(COURSE_ID)).willAnswer(invocation -> view());
+        cache.get(COURSE_ID);
+        course.increaseEnrollmentCount();
+
+        // when
+        cache.onCourseChanged(CourseChangedEvent.updated(COURSE_ID));
+
+        // then
+        assertThat(cache.get(COURSE_ID)).map(CourseDTO::getCurrentEnrollmentCount).hasValue(1);
+        verify(courseRepository, times(2)).findViewById(COURSE_ID);
+    }
+
+    @Test
+    @DisplayName("stale-while-revalidate 모드에서는 다시 읽는 동안 이전 값을 응답한다")
+    void onCourseChanged_WhenStaleWhileRevalidate_ShouldServeStaleUntilReloaded() throws Exception {
+        // given
+        enrollmentProperties.getCourseCache().setStaleWhileRevalidate(true);
+        CourseViewCache cache = newCache();
+        CountDownLatch release = new CountDownLatch(1);
+        given(courseRepository.findViewById(COURSE_ID))
+                .willAnswer(invocation -> view())
+                .willAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return view();
+                });
+        cache.get(COURSE_ID);
+        course.increaseEnrollmentCount();
+
+        // when
+        cache.onCourseChanged(CourseChangedEvent.updated(COURSE_ID));
+
+        // then
+        assertThat(cache.get(COURSE_ID)).map(CourseDTO::getCurrentEnrollmentCount).hasValue(0);
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.get(COURSE_ID).orElseThrow().getCurrentEnrollmentCount() != 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.get(COURSE_ID)).map(CourseDTO::getCurrentEnrollmentCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 강좌는 stale-while-revalidate 모드에서도 바로 지운다")
+    void onCourseChanged_WithDeletedCourse_ShouldInvalidateImmediately() {
+        // given
+        enrollmentProperties.getCourseCache().setStaleWhileRevalidate(true);
+        CourseViewCache cache = newCache();
+        given(courseRepository.findViewById(COURSE_ID)).willAnswer(invocation -> view()).willReturn(Optional.empty());
+        cache.get(COURSE_ID);
+
+        // when
+        cache.onCourseChanged(new CourseChangedEvent(COURSE_ID, CourseChangedEvent.Change.DELETED));
+
+        // then
+        assertThat(cache.get(COURSE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 DB에서 읽는다")
+    void get_WhenDisabled_ShouldAlwaysLoad() {
+        // given
+        enrollmentProperties.getCourseCache().setEnabled(false);
+        CourseViewCache cache = newCache();
+        given(courseRepository.findViewById(COURSE_ID)).willAnswer(invocation -> view());
+
+        // when
+        cache.get(COURSE_ID);
+        cache.get(COURSE_ID);
+
+        // then
+        verify(courseRepository, times(2)).findViewById(COURSE_ID);
+    }
+
+    // 저장소가 조회 시점의 강좌 상태로 프로젝션을 만들어 돌려주는 것처럼 흉내낸다
+    private Optional<CourseDTO> view() {
+        return Optional.of(CourseDTO.from(course));
+    }
+
+    private CourseViewCache newCache() {
+        return new CourseViewCache(courseRepository, enrollmentProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package wb.wolbu.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.EnrollmentDTO;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class EnrollmentEngineShutdownTest {
+    private static final Long COURSE_ID = 10L;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private WaitlistService waitlistService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EnrollmentEngine enrollmentEngine;
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentProperties enrollmentProperties = new EnrollmentProperties();
+        enrollmentProperties.getEngine().setEnabled(true);
+        enrollmentProperties.getEngine().setWorkers(1);
+        enrollmentEngine = new EnrollmentEngine(enrollmentRepository, courseRepository, memberRepository,
+                waitlistService, transactionManager, enrollmentProperties, new SimpleMeterRegistry());
+        enrollmentEngine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrollmentEngine.stop();
+    }
+
+    @Test
+    @DisplayName("엔진 종료 시 대기열에 남은 명령은 재시도 가능한 오류로 끝난다")
+    void stop_WithQueuedCommands_ShouldRejectThem() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 첫 명령 처리 중 워커가 멈춰 있도록 학생 조회에서 대기
+        willAnswer(invocation -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        }).given(memberRepository).findById(1L);
+
+        CompletableFuture<EnrollmentDTO> processing = enrollmentEngine.submitEnroll(1L, COURSE_ID);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<EnrollmentDTO> queued = enrollmentEngine.submitEnroll(2L, COURSE_ID);
+
+        // when
+        enrollmentEngine.stop();
+
+        // then
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> processing.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("엔진 종료 후 들어온 명령은 바로 거절된다")
+    void submit_AfterStop_ShouldThrowException() {
+        // given
+        enrollmentEngine.stop();
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentEngine.submitEnroll(1L, COURSE_ID))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+}
@@ -1,15 +1,25 @@
 package wb.wolbu.service;
 
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PessimisticLockException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.config.EnrollmentProperties.SeatClaimMode;
+import wb.wolbu.dto.EnrollmentDTO;
+import wb.wolbu.dto.EnrollmentResult;
 import wb.wolbu.entity.Course;
 import wb.wolbu.entity.Enrollment;
 import wb.wolbu.entity.Member;
@@ -22,11 +32,15 @@ import wb.wolbu.repository.MemberRepository;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,8 +52,13 @@ public class EnrollmentServiceTest {
     private MemberRepository memberRepository;
     @Mock
     private CourseRepository courseRepository;
+    @Mock
+    private WaitlistService waitlistService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private EnrollmentProperties enrollmentProperties = new EnrollmentProperties();
 
-    @InjectMocks
     private EnrollmentService enrollmentService;
 
     private Member student;
@@ -49,6 +68,12 @@ public class EnrollmentServiceTest {
 
     @BeforeEach
     void setUp() {
+        SeatClaimStrategies seatClaimStrategies = new SeatClaimStrategies(List.of(
+                new PessimisticSeatClaimStrategy(courseRepository),
+                new OptimisticSeatClaimStrategy(courseRepository, enrollmentProperties, new SimpleMeterRegistry()),
+                new ConditionalUpdateSeatClaimStrategy(courseRepository, eventPublisher)), enrollmentProperties);
+        enrollmentService = new EnrollmentService(enrollmentRepository, courseRepository, memberRepository, seatClaimStrategies, waitlistService, eventPublisher);
+
         student = new Member(
                 "Mark Han",
                 "markymark331@gmail.com",
@@ -75,8 +100,7 @@ public class EnrollmentServiceTest {
         // given
         given(memberRepository.findById(1L)).willReturn(Optional.of(student));
         given(courseRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(course));
-        given(enrollmentRepository.findByStudentAndCourse(student, course)).willReturn(Optional.empty());
-        given(enrollmentRepository.save(any(Enrollment.class))).willReturn(enrollment);
+        given(enrollmentRepository.saveAndFlush(any(Enrollment.class))).willReturn(enrollment);
 
         // when
         Enrollment result = enrollmentService.enrollCourse(1L, 1L);
@@ -85,8 +109,9 @@ public class EnrollmentServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getStudent()).isEqualTo(student);
         assertThat(result.getCourse()).isEqualTo(course);
-        verify(enrollmentRepository).save(any(Enrollment.class));
-        verify(courseRepository).save(course);
+        verify(enrollmentRepository).saveAndFlush(any(Enrollment.class));
+        verify(enrollmentRepository, never()).findByStudentAndCourse(any(), any());
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(1);
     }
 
     @Test
@@ -95,7 +120,8 @@ public class EnrollmentServiceTest {
         // given
         given(memberRepository.findById(1L)).willReturn(Optional.of(student));
         given(courseRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(course));
-        given(enrollmentRepository.findByStudentAndCourse(student, course)).willReturn(Optional.of(enrollment));
+        given(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                .willThrow(new DataIntegrityViolationException("uk_enrollment_member_course"));
 
         // when & then
         assertThatThrownBy(() -> enrollmentService.enrollCourse(1L, 1L))
@@ -108,11 +134,10 @@ public class EnrollmentServiceTest {
     void enrollCourse_WithFullCourse_ShouldThrowException() {
         // given
         Course fullCourse = new Course("Full Course", 1, 100000, instructor);
-        fullCourse.addEnrollment(new Enrollment(new Member("Other Student", "other@example.com", "01011112222", "password", MemberType.STUDENT), fullCourse));
+        fullCourse.increaseEnrollmentCount();
 
         given(memberRepository.findById(1L)).willReturn(Optional.of(student));
         given(courseRepository.findByIdWithPessimisticLock(1L)).willReturn(Optional.of(fullCourse));
-        given(enrollmentRepository.findByStudentAndCourse(student, fullCourse)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> enrollmentService.enrollCourse(1L, 1L))
@@ -120,30 +145,162 @@ public class EnrollmentServiceTest {
                 .hasMessageContaining("수강 신청 인원이 꽉 찼습니다.");
     }
 
+    @Test
+    @DisplayName("수강 신청 - 조건부 UPDATE 모드에서 정상적인 경우")
+    void enrollCourse_WithConditionalUpdateMode_ShouldEnrollWithoutLock() {
+        // given
+        enrollmentProperties.setSeatClaimMode(SeatClaimMode.CONDITIONAL_UPDATE);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        given(courseRepository.increaseEnrollmentCountIfAvailable(1L)).willReturn(1);
+        given(enrollmentRepository.saveAndFlush(any(Enrollment.class))).willReturn(enrollment);
+
+        // when
+        Enrollment result = enrollmentService.enrollCourse(1L, 1L);
+
+        // then
+        assertThat(result).isEqualTo(enrollment);
+        verify(courseRepository).increaseEnrollmentCountIfAvailable(1L);
+        verify(courseRepository, never()).findByIdWithPessimisticLock(any());
+    }
 
     @Test
-    @DisplayName("수강 취소 - 정상적인 경우")
-    void cancelEnrollment_WithValidInput_ShouldCancelSuccessfully() {
+    @DisplayName("수강 신청 - 조건부 UPDATE 모드에서 수강 인원 초과의 경우")
+    void enrollCourse_WithConditionalUpdateModeAndFullCourse_ShouldThrowException() {
+        // given
+        enrollmentProperties.setSeatClaimMode(SeatClaimMode.CONDITIONAL_UPDATE);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        given(courseRepository.increaseEnrollmentCountIfAvailable(1L)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(1L, 1L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessageContaining("수강 신청 인원이 꽉 찼습니다.");
+        verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
+    }
+
+    @Test
+    @DisplayName("수강 신청 - 조건부 UPDATE 모드에서 이미 신청한 강좌인 경우")
+    void enrollCourse_WithConditionalUpdateModeAndAlreadyEnrolledCourse_ShouldThrowException() {
         // given
+        enrollmentProperties.setSeatClaimMode(SeatClaimMode.CONDITIONAL_UPDATE);
         given(memberRepository.findById(1L)).willReturn(Optional.of(student));
         given(courseRepository.findById(1L)).willReturn(Optional.of(course));
-        given(enrollmentRepository.findByStudentAndCourse(student, course)).willReturn(Optional.of(enrollment));
+        given(courseRepository.increaseEnrollmentCountIfAvailable(1L)).willReturn(1);
+        given(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                .willThrow(new DataIntegrityViolationException("uk_enrollment_member_course"));
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(1L, 1L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessageContaining("이미 수강 중인 강좌입니다.");
+    }
+
+    @Test
+    @DisplayName("수강 신청 - 낙관적 락 모드에서는 락 없이 조회해 인원을 올린다")
+    void enrollCourse_WithOptimisticMode_ShouldEnrollWithoutLock() {
+        // given
+        enrollmentProperties.setSeatClaimMode(SeatClaimMode.OPTIMISTIC);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        given(enrollmentRepository.saveAndFlush(any(Enrollment.class))).willReturn(enrollment);
+
+        // when
+        Enrollment result = enrollmentService.enrollCourse(1L, 1L);
+
+        // then
+        assertThat(result).isEqualTo(enrollment);
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(1);
+        verify(courseRepository, never()).findByIdWithPessimisticLock(any());
+    }
+
+    @Test
+    @DisplayName("수강 신청 - 강좌별 설정이 전역 설정보다 우선한다")
+    void enrollCourse_WithCourseSpecificMode_ShouldOverrideGlobalMode() {
+        // given
+        enrollmentProperties.getCourseSeatClaimModes().put(1L, SeatClaimMode.CONDITIONAL_UPDATE);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        given(courseRepository.increaseEnrollmentCountIfAvailable(1L)).willReturn(1);
+        given(enrollmentRepository.saveAndFlush(any(Enrollment.class))).willReturn(enrollment);
+
+        // when
+        enrollmentService.enrollCourse(1L, 1L);
+
+        // then
+        verify(courseRepository).increaseEnrollmentCountIfAvailable(1L);
+        verify(courseRepository, never()).findByIdWithPessimisticLock(any());
+    }
+
+    @Test
+    @DisplayName("여러 강좌 수강 신청 - 강좌별 결과를 요청 순서대로 반환")
+    void enrollMultipleCourses_WithMixedCourses_ShouldReturnResultPerCourse() {
+        // given
+        Course fullCourse = new Course("Full Course", 1, 100000, instructor);
+        fullCourse.increaseEnrollmentCount();
+        Course enrolledCourse = new Course("Enrolled Course", 10, 100000, instructor);
+        ReflectionTestUtils.setField(course, "id", 1L);
+        ReflectionTestUtils.setField(fullCourse, "id", 2L);
+        ReflectionTestUtils.setField(enrolledCourse, "id", 3L);
+
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findAllByIdInWithPessimisticLock(List.of(1L, 2L, 3L, 4L)))
+                .willReturn(List.of(course, fullCourse, enrolledCourse));
+        given(enrollmentRepository.findCourseIdsByStudentIdAndCourseIds(1L, List.of(1L, 2L, 3L, 4L)))
+                .willReturn(List.of(3L));
+
+        // when
+        List<EnrollmentResult> results = enrollmentService.enrollMultipleCourses(1L, List.of(4L, 3L, 2L, 1L));
+
+        // then
+        assertThat(results).extracting(EnrollmentResult::getCourseId).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(results).extracting(EnrollmentResult::isSuccess).containsExactly(false, false, false, true);
+        assertThat(results).extracting(EnrollmentResult::getErrorMessage).containsExactly(
+                "해당 강좌를 찾을 수 없습니다.", "이미 수강 중인 강좌입니다.", "수강 신청 인원이 꽉 찼습니다.", null);
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(1);
+        verify(enrollmentRepository).saveAll(argThat((List<Enrollment> enrollments) -> enrollments.size() == 1));
+    }
+
+    @Test
+    @DisplayName("수강 취소 - 정상적인 경우")
+    void cancelEnrollment_WithValidInput_ShouldCancelSuccessfully() {
+        // given
+        given(enrollmentRepository.findByStudentIdAndCourseId(1L, 1L)).willReturn(Optional.of(enrollment));
+        given(enrollmentRepository.deleteEnrollment(enrollment.getId(), 1L)).willReturn(1);
 
         // when
         Enrollment result = enrollmentService.cancelEnrollment(1L, 1L);
 
         // then
         assertThat(result).isNotNull();
-        verify(enrollmentRepository).delete(enrollment);
+        verify(courseRepository).decreaseEnrollmentCount(1L);
+        verify(eventPublisher).publishEvent(CourseChangedEvent.updated(1L));
+        verify(courseRepository, never()).findByIdWithPessimisticLock(any());
+        verify(waitlistService, never()).promoteNext(any());
+    }
+
+    @Test
+    @DisplayName("수강 취소 - 대기자가 있으면 빈 좌석으로 승격시킨다")
+    void cancelEnrollment_WithWaitingStudents_ShouldPromoteNext() {
+        // given
+        given(enrollmentRepository.findByStudentIdAndCourseId(1L, 1L)).willReturn(Optional.of(enrollment));
+        given(enrollmentRepository.deleteEnrollment(enrollment.getId(), 1L)).willReturn(1);
+        given(waitlistService.hasWaiting(1L)).willReturn(true);
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+
+        // when
+        enrollmentService.cancelEnrollment(1L, 1L);
+
+        // then
+        verify(waitlistService).promoteNext(course);
     }
 
     @Test
     @DisplayName("수강 취소 - 신청하지 않은 강좌인 경우")
     void cancelEnrollment_WithNotEnrolledCourse_ShouldThrowException() {
         // given
-        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
-        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
-        given(enrollmentRepository.findByStudentAndCourse(student, course)).willReturn(Optional.empty());
+        given(enrollmentRepository.findByStudentIdAndCourseId(1L, 1L)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> enrollmentService.cancelEnrollment(1L, 1L))
@@ -151,33 +308,158 @@ public class EnrollmentServiceTest {
                 .hasMessageContaining("해당 강좌를 수강 중이 아닙니다.");
     }
 
+    @Test
+    @DisplayName("수강 취소 - 동시에 취소되어 이미 지워진 경우 인원을 줄이지 않는다")
+    void cancelEnrollment_WhenAlreadyDeleted_ShouldNotDecreaseCount() {
+        // given
+        given(enrollmentRepository.findByStudentIdAndCourseId(1L, 1L)).willReturn(Optional.of(enrollment));
+        given(enrollmentRepository.deleteEnrollment(enrollment.getId(), 1L)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentService.cancelEnrollment(1L, 1L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessageContaining("해당 강좌를 수강 중이 아닙니다.");
+        verify(courseRepository, never()).decreaseEnrollmentCount(any());
+    }
+
+    @Test
+    @DisplayName("강좌 변경 - 수강 정보와 두 강좌를 잠그고 수강 정보를 옮긴다")
+    void swapCourse_WithOpenTarget_ShouldMoveEnrollment() {
+        // given
+        Course targetCourse = new Course("Target Course", 10, 100000, instructor);
+        ReflectionTestUtils.setField(course, "id", 1L);
+        ReflectionTestUtils.setField(targetCourse, "id", 2L);
+        course.increaseEnrollmentCount();
+
+        given(enrollmentRepository.findByStudentIdAndCourseIdForUpdate(1L, 2L)).willReturn(Optional.of(enrollment));
+        given(courseRepository.findAllByIdInWithPessimisticLock(List.of(2L, 1L))).willReturn(List.of(course, targetCourse));
+        given(enrollmentRepository.saveAndFlush(enrollment)).willReturn(enrollment);
+
+        // when
+        Enrollment result = enrollmentService.swapCourse(1L, 2L, 1L);
+
+        // then
+        assertThat(result.getCourse()).isEqualTo(course);
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(2);
+        assertThat(targetCourse.getCurrentEnrollmentCount()).isEqualTo(0);
+        verify(waitlistService).promoteNext(targetCourse);
+        // 취소와 같은 순서로 수강 정보 row 를 강좌 row 보다 먼저 잠근다
+        InOrder lockOrder = inOrder(enrollmentRepository, courseRepository);
+        lockOrder.verify(enrollmentRepository).findByStudentIdAndCourseIdForUpdate(1L, 2L);
+        lockOrder.verify(courseRepository).findAllByIdInWithPessimisticLock(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("강좌 변경 - 옮길 강좌가 꽉 차 있으면 기존 수강을 유지한다")
+    void swapCourse_WithFullTarget_ShouldKeepOriginalEnrollment() {
+        // given
+        Course fullCourse = new Course("Full Course", 1, 100000, instructor);
+        fullCourse.increaseEnrollmentCount();
+        ReflectionTestUtils.setField(course, "id", 1L);
+        ReflectionTestUtils.setField(fullCourse, "id", 2L);
+        course.increaseEnrollmentCount();
+
+        given(enrollmentRepository.findByStudentIdAndCourseIdForUpdate(1L, 1L)).willReturn(Optional.of(enrollment));
+        given(courseRepository.findAllByIdInWithPessimisticLock(List.of(1L, 2L))).willReturn(List.of(course, fullCourse));
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentService.swapCourse(1L, 1L, 2L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage("수강 신청 인원이 꽉 찼습니다.");
+        assertThat(enrollment.getCourse()).isEqualTo(course);
+        assertThat(course.getCurrentEnrollmentCount()).isEqualTo(1);
+        verify(enrollmentRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("강좌 변경 - 옮길 강좌를 이미 수강 중이면 예외가 발생한다")
+    void swapCourse_WithAlreadyEnrolledTarget_ShouldThrowException() {
+        // given
+        Course targetCourse = new Course("Target Course", 10, 100000, instructor);
+        ReflectionTestUtils.setField(course, "id", 1L);
+        ReflectionTestUtils.setField(targetCourse, "id", 2L);
+        course.increaseEnrollmentCount();
+
+        given(enrollmentRepository.findByStudentIdAndCourseIdForUpdate(1L, 1L)).willReturn(Optional.of(enrollment));
+        given(courseRepository.findAllByIdInWithPessimisticLock(List.of(1L, 2L))).willReturn(List.of(course, targetCourse));
+        given(enrollmentRepository.saveAndFlush(enrollment)).willThrow(new DataIntegrityViolationException("uk_enrollment_member_course"));
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentService.swapCourse(1L, 1L, 2L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage("이미 수강 중인 강좌입니다.");
+        verify(waitlistService, never()).promoteNext(any());
+    }
+
+    @Test
+    @DisplayName("여러 강좌 일괄 취소 - 한 번에 지우고 강좌 ID 순서대로 인원을 줄인다")
+    void cancelMultipleCourses_WithMixedCourses_ShouldReturnResultPerCourse() {
+        // given
+        Course otherCourse = new Course("Other Course", 10, 100000, instructor);
+        ReflectionTestUtils.setField(course, "id", 1L);
+        ReflectionTestUtils.setField(otherCourse, "id", 3L);
+        Enrollment otherEnrollment = new Enrollment(student, otherCourse);
+        ReflectionTestUtils.setField(enrollment, "id", 10L);
+        ReflectionTestUtils.setField(otherEnrollment, "id", 30L);
+
+        given(enrollmentRepository.findAllByStudentIdAndCourseIdInForUpdate(1L, List.of(1L, 2L, 3L)))
+                .willReturn(List.of(enrollment, otherEnrollment));
+        given(waitlistService.coursesWithWaiting(any())).willReturn(Set.of());
+
+        // when
+        List<EnrollmentResult> results = enrollmentService.cancelMultipleCourses(1L, List.of(3L, 2L, 1L, 3L));
+
+        // then
+        assertThat(results).extracting(EnrollmentResult::getCourseId).containsExactly(3L, 2L, 1L, 3L);
+        assertThat(results).extracting(EnrollmentResult::isSuccess).containsExactly(true, false, true, false);
+        verify(enrollmentRepository).deleteAllByIdInBatch(List.of(10L, 30L));
+        InOrder inOrder = inOrder(courseRepository);
+        inOrder.verify(courseRepository).decreaseEnrollmentCount(1L);
+        inOrder.verify(courseRepository).decreaseEnrollmentCount(3L);
+        verify(courseRepository, never()).decreaseEnrollmentCount(2L);
+    }
+
     @Test
     @DisplayName("학생의 수강 목록 조회")
     void getStudentEnrollments_ShouldReturnEnrollmentList() {
         // given
-        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
-        given(enrollmentRepository.findByStudent(student)).willReturn(Arrays.asList(enrollment));
+        EnrollmentDTO view = EnrollmentDTO.from(enrollment);
+        given(memberRepository.existsById(1L)).willReturn(true);
+        given(enrollmentRepository.findViewsByStudentId(1L)).willReturn(List.of(view));
 
         // when
-        List<Enrollment> results = enrollmentService.getStudentEnrollments(1L);
+        List<EnrollmentDTO> results = enrollmentService.getStudentEnrollments(1L);
 
         // then
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0)).isEqualTo(enrollment);
+        assertThat(results).containsExactly(view);
+        verify(enrollmentRepository, never()).findByStudent(any());
     }
 
     @Test
     @DisplayName("강좌의 수강생 목록 조회")
     void getCourseEnrollments_ShouldReturnEnrollmentList() {
         // given
-        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
-        given(enrollmentRepository.findByCourse(course)).willReturn(Arrays.asList(enrollment));
+        EnrollmentDTO view = EnrollmentDTO.from(enrollment);
+        given(courseRepository.existsById(1L)).willReturn(true);
+        given(enrollmentRepository.findViewsByCourseId(1L)).willReturn(List.of(view));
 
         // when
-        List<Enrollment> results = enrollmentService.getCourseEnrollments(1L);
+        List<EnrollmentDTO> results = enrollmentService.getCourseEnrollments(1L);
 
         // then
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0)).isEqualTo(enrollment);
+        assertThat(results).containsExactly(view);
+        verify(courseRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("강좌의 수강생 목록 조회 - 존재하지 않는 강좌인 경우")
+    void getCourseEnrollments_WithNonExistingCourse_ShouldThrowException() {
+        // given
+        given(courseRepository.existsById(999L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentService.getCourseEnrollments(999L))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("해당 강좌를 찾을 수 없습니다");
     }
-}
\ No newline at end of file
+}
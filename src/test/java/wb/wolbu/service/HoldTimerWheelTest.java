@@ -0,0 +1,70 @@
+package wb.wolbu.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wb.wolbu.service.HoldTimerWheel.ExpiredHold;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HoldTimerWheelTest {
+    private static final long START = 1_000_000L;
+
+    private HoldTimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        // tick 100ms, 칸 8개 -> 한 바퀴 800ms
+        wheel = new HoldTimerWheel(100, 8, START);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 tick 에서 만료된다")
+    void advance_AfterDeadline_ShouldExpireHold() {
+        // given
+        wheel.schedule(1L, 10L, START + 250);
+
+        // when & then
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactly(new ExpiredHold(1L, 10L));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 만료 시간도 정확한 바퀴에서 만료된다")
+    void advance_WithDeadlineBeyondOneRotation_ShouldWaitForRemainingRounds() {
+        // given
+        wheel.schedule(1L, 10L, START + 1000);
+
+        // when & then
+        assertThat(wheel.advance(START + 900)).isEmpty();
+        assertThat(wheel.advance(START + 1000)).extracting(ExpiredHold::holdId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("취소된 좌석은 만료되지 않는다")
+    void cancel_BeforeDeadline_ShouldNotExpire() {
+        // given
+        wheel.schedule(1L, 10L, START + 100);
+        wheel.schedule(2L, 10L, START + 100);
+
+        // when
+        wheel.cancel(1L);
+
+        // then
+        assertThat(wheel.advance(START + 500)).extracting(ExpiredHold::holdId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 tick 에 바로 만료된다")
+    void schedule_WithPastDeadline_ShouldExpireOnNextTick() {
+        // given
+        wheel.advance(START + 500);
+
+        // when
+        wheel.schedule(1L, 10L, START + 100);
+
+        // then
+        assertThat(wheel.advance(START + 600)).extracting(ExpiredHold::holdId).containsExactly(1L);
+    }
+}
@@ -0,0 +1,251 @@
+package wb.wolbu.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.dto.EnrollmentRequest;
+import wb.wolbu.entity.IdempotencyRecord;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.InvalidInputException;
+import wb.wolbu.exception.custom.ServiceUnavailableException;
+import wb.wolbu.repository.IdempotencyRecordRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyServiceTest {
+    private static final String OPERATION = "POST /api/enrollments";
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private EnrollmentProperties enrollmentProperties;
+    private IdempotencyService idempotencyService;
+    private final EnrollmentRequest request = new EnrollmentRequest(1L, 10L);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        enrollmentProperties = new EnrollmentProperties();
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, new ObjectMapper(), enrollmentProperties);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 처리한다")
+    void execute_WithoutKey_ShouldRunEveryTime() {
+        // when
+        idempotencyService.execute(null, OPERATION, request, this::created);
+        idempotencyService.execute(null, OPERATION, request, this::created);
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 다시 처리하지 않고 처음 응답을 돌려준다")
+    void execute_WithSameKey_ShouldReplayFirstResponse() {
+        // given
+        ResponseEntity<?> first = idempotencyService.execute("key-1", OPERATION, request, this::created);
+
+        // when
+        ResponseEntity<?> replayed = idempotencyService.execute("key-1", OPERATION, request, this::created);
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isSameAs(first.getBody());
+        assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 예외가 발생한다")
+    void execute_WithSameKeyAndDifferentRequest_ShouldThrowException() {
+        // given
+        idempotencyService.execute("key-1", OPERATION, request, this::created);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", OPERATION, new EnrollmentRequest(1L, 11L), this::created))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage("다른 요청에 이미 사용된 Idempotency-Key 입니다.");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("업무 오류로 끝난 요청은 같은 오류를 재현한다")
+    void execute_WithBusinessFailure_ShouldReplayFailure() {
+        // given
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", OPERATION, request, () -> {
+            calls.incrementAndGet();
+            throw new BusinessLogicException("이미 수강 중인 강좌입니다.");
+        })).isInstanceOf(BusinessLogicException.class);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", OPERATION, request, this::created))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessage("이미 수강 중인 강좌입니다.");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 끝난 요청은 재시도 시 다시 처리한다")
+    void execute_WithTransientFailure_ShouldRunAgain() {
+        // given
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", OPERATION, request, () -> {
+            calls.incrementAndGet();
+            throw new ServiceUnavailableException("잠시 후 다시 시도해주세요.");
+        })).isInstanceOf(ServiceUnavailableException.class);
+
+        // when
+        ResponseEntity<?> retried = idempotencyService.execute("key-1", OPERATION, request, this::created);
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(retried.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("처리 중에 들어온 같은 키의 요청은 첫 요청의 결과를 기다린다")
+    void execute_WithConcurrentDuplicate_ShouldWaitForFirstRequest() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", OPERATION, request, () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<ResponseEntity<?>> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", OPERATION, request, this::created));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        // then
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody()).isSameAs(first.get(5, TimeUnit.SECONDS).getBody());
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("최대 키 수를 넘어도 처리 중인 키는 버리지 않는다")
+    void execute_WhenOverMaxEntries_ShouldKeepInFlightKey() throws Exception {
+        // given
+        enrollmentProperties.getIdempotency().setMaxEntries(1);
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, new ObjectMapper(), enrollmentProperties);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", OPERATION, request, () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        idempotencyService.execute("key-2", OPERATION, request, this::created);
+        idempotencyService.execute("key-3", OPERATION, request, this::created);
+        CompletableFuture<ResponseEntity<?>> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", OPERATION, request, this::created));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        // then
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody()).isSameAs(first.get(5, TimeUnit.SECONDS).getBody());
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("보관 기간은 처리가 끝난 시점부터 센다")
+    void execute_WhenProcessingOutlivesTtl_ShouldStillReplay() {
+        // given
+        enrollmentProperties.getIdempotency().setTtlMs(200);
+        idempotencyService.execute("key-1", OPERATION, request, () -> {
+            sleep(300);
+            return created();
+        });
+
+        // when
+        idempotencyService.evictExpired();
+        ResponseEntity<?> replayed = idempotencyService.execute("key-1", OPERATION, request, this::created);
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 응답이 있으면 메모리에 없어도 재현한다")
+    void execute_WithPersistedRecord_ShouldReplayStoredResponse() {
+        // given
+        enrollmentProperties.getIdempotency().setPersistent(true);
+        String fingerprint = OPERATION + " {\"studentId\":1,\"courseId\":10}";
+        given(idempotencyRecordRepository.findById("key-1"))
+                .willReturn(Optional.of(new IdempotencyRecord("key-1", fingerprint, 201, "{\"id\":100}")));
+
+        // when
+        ResponseEntity<?> replayed = idempotencyService.execute("key-1", OPERATION, request, this::created);
+
+        // then
+        assertThat(calls).hasValue(0);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isEqualTo("{\"id\":100}");
+    }
+
+    @Test
+    @DisplayName("DB 저장 모드에서는 처리한 응답을 저장한다")
+    void execute_WhenPersistent_ShouldSaveResponse() {
+        // given
+        enrollmentProperties.getIdempotency().setPersistent(true);
+        given(idempotencyRecordRepository.findById("key-1")).willReturn(Optional.empty());
+
+        // when
+        idempotencyService.execute("key-1", OPERATION, request, this::created);
+
+        // then
+        verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    private ResponseEntity<?> created() {
+        calls.incrementAndGet();
+        return new ResponseEntity<>(Map.of("id", 100L), HttpStatus.CREATED);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package wb.wolbu.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LotteryDrawTest {
+    private static final List<Integer> APPLICANTS = IntStream.rangeClosed(1, 1000).boxed().toList();
+
+    @Test
+    @DisplayName("같은 시드와 같은 신청 목록이면 같은 당첨자가 나온다")
+    void pickWinners_WithSameSeed_ShouldBeReproducible() {
+        // when
+        List<Integer> first = LotteryDraw.pickWinners(APPLICANTS, 30, 20230916L);
+        List<Integer> second = LotteryDraw.pickWinners(APPLICANTS, 30, 20230916L);
+
+        // then
+        assertThat(first).hasSize(30).doesNotHaveDuplicates();
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("시드가 다르면 다른 당첨자가 나온다")
+    void pickWinners_WithDifferentSeed_ShouldPickDifferentWinners() {
+        // when
+        List<Integer> first = LotteryDraw.pickWinners(APPLICANTS, 30, 1L);
+        List<Integer> second = LotteryDraw.pickWinners(APPLICANTS, 30, 2L);
+
+        // then
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("신청자가 좌석보다 적으면 모두 당첨된다")
+    void pickWinners_WithFewerApplicantsThanSeats_ShouldPickEveryone() {
+        // when
+        List<Integer> winners = LotteryDraw.pickWinners(List.of(1, 2, 3), 10, 7L);
+
+        // then
+        assertThat(winners).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("남은 좌석이 없으면 당첨자가 없다")
+    void pickWinners_WithNoSeats_ShouldPickNobody() {
+        // when & then
+        assertThat(LotteryDraw.pickWinners(APPLICANTS, 0, 7L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입력 목록은 변경하지 않는다")
+    void pickWinners_ShouldNotModifyApplicants() {
+        // given
+        List<Integer> applicants = new ArrayList<>(APPLICANTS);
+
+        // when
+        LotteryDraw.pickWinners(applicants, 500, 7L);
+
+        // then
+        assertThat(applicants).isEqualTo(APPLICANTS);
+    }
+}
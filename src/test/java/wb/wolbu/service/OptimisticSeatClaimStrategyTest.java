@@ -0,0 +1,78 @@
+package wb.wolbu.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.Course;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.exception.custom.TooManyRequestsException;
+import wb.wolbu.repository.CourseRepository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class OptimisticSeatClaimStrategyTest {
+    @Mock
+    private CourseRepository courseRepository;
+
+    private OptimisticSeatClaimStrategy strategy;
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentProperties enrollmentProperties = new EnrollmentProperties();
+        enrollmentProperties.getOptimistic().setMaxAttempts(3);
+        enrollmentProperties.getOptimistic().setBaseBackoffMs(1);
+        enrollmentProperties.getOptimistic().setMaxBackoffMs(2);
+        enrollmentProperties.getOptimistic().setRetryAfterSeconds(3);
+        strategy = new OptimisticSeatClaimStrategy(courseRepository, enrollmentProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 나면 트랜잭션을 다시 실행한다")
+    void execute_WithVersionConflict_ShouldRetryTransaction() {
+        // when
+        String result = strategy.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Course.class, 1L);
+            }
+            return "enrolled";
+        });
+
+        // then
+        assertThat(result).isEqualTo("enrolled");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 충돌하면 429로 거절한다")
+    void execute_WithConflictsBeyondMaxAttempts_ShouldThrowTooManyRequests() {
+        // when & then
+        assertThatThrownBy(() -> strategy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Course.class, 1L);
+        })).isInstanceOf(TooManyRequestsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3L);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 아닌 실패는 재시도하지 않는다")
+    void execute_WithBusinessFailure_ShouldNotRetry() {
+        // when & then
+        assertThatThrownBy(() -> strategy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new BusinessLogicException("수강 신청 인원이 꽉 찼습니다.");
+        })).isInstanceOf(BusinessLogicException.class);
+        assertThat(attempts).hasValue(1);
+    }
+}
@@ -0,0 +1,135 @@
+package wb.wolbu.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import wb.wolbu.config.EnrollmentProperties;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.repository.CourseRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatLedgerTest {
+    @Mock
+    private CourseRepository courseRepository;
+    @Spy
+    private EnrollmentProperties enrollmentProperties = new EnrollmentProperties();
+
+    @InjectMocks
+    private SeatLedger seatLedger;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentProperties.getLedger().setEnabled(true);
+        Member instructor = new Member("Instructor", "example@gmail.com", "01015245678", "Password1!", MemberType.INSTRUCTOR);
+        course = new Course("Test Course", 3, 10000, instructor);
+        ReflectionTestUtils.setField(course, "id", 1L);
+        course.increaseEnrollmentCount();
+    }
+
+    @Test
+    @DisplayName("좌석 장부 - 잔여 좌석만큼만 확보되고 이후 요청은 거절된다")
+    void tryAcquire_WhenSoldOut_ShouldReject() {
+        // given
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+
+        // when & then
+        assertThat(seatLedger.tryAcquire(1L)).isTrue();
+        assertThat(seatLedger.tryAcquire(1L)).isTrue();
+        assertThat(seatLedger.tryAcquire(1L)).isFalse();
+        verify(courseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("좌석 장부 - 커밋에 실패한 좌석은 반환된다")
+    void release_ShouldGiveSeatBack() {
+        // given
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        seatLedger.tryAcquire(1L);
+        seatLedger.tryAcquire(1L);
+
+        // when
+        seatLedger.release(1L);
+
+        // then
+        assertThat(seatLedger.getAvailableSeats(1L)).isEqualTo(1);
+        assertThat(seatLedger.tryAcquire(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석 장부 - 보정 시 DB 잔여 좌석 기준으로 다시 맞춘다")
+    void reconcile_ShouldCorrectDrift() {
+        // given
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        seatLedger.tryAcquire(1L);
+        course.increaseEnrollmentCount();
+        seatLedger.confirm(1L);
+        // 다른 경로로 DB 인원이 변경됨
+        course.increaseEnrollmentCount();
+        given(courseRepository.findAllById(List.of(1L))).willReturn(List.of(course));
+
+        // when
+        seatLedger.reconcile();
+
+        // then
+        assertThat(seatLedger.getAvailableSeats(1L)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("좌석 장부 - 커밋 후 확정 전인 좌석이 있으면 보정하지 않는다")
+    void reconcile_BetweenCommitAndConfirm_ShouldNotDoubleCount() {
+        // given
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        seatLedger.tryAcquire(1L);
+        // DB 커밋은 끝났지만 아직 confirm 전
+        course.increaseEnrollmentCount();
+
+        // when
+        seatLedger.reconcile();
+        seatLedger.confirm(1L);
+
+        // then
+        assertThat(seatLedger.getAvailableSeats(1L)).isEqualTo(1);
+        assertThat(seatLedger.tryAcquire(1L)).isTrue();
+        verify(courseRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("좌석 장부 - DB 조회 중 확보된 좌석은 보정 값으로 덮어쓰지 않는다")
+    void reconcile_WhenAcquiredDuringRead_ShouldNotOverwrite() {
+        // given
+        given(courseRepository.findById(1L)).willReturn(Optional.of(course));
+        seatLedger.tryAcquire(1L);
+        course.increaseEnrollmentCount();
+        seatLedger.confirm(1L);
+        given(courseRepository.findAllById(List.of(1L))).willAnswer(invocation -> {
+            seatLedger.tryAcquire(1L);
+            return List.of(course);
+        });
+
+        // when
+        seatLedger.reconcile();
+
+        // then
+        assertThat(seatLedger.getAvailableSeats(1L)).isEqualTo(0);
+    }
+}
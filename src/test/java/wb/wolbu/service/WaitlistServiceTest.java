@@ -0,0 +1,170 @@
+package wb.wolbu.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import wb.wolbu.dto.WaitlistDTO;
+import wb.wolbu.entity.Course;
+import wb.wolbu.entity.Enrollment;
+import wb.wolbu.entity.Member;
+import wb.wolbu.entity.MemberType;
+import wb.wolbu.entity.WaitlistEntry;
+import wb.wolbu.exception.custom.BusinessLogicException;
+import wb.wolbu.repository.CourseRepository;
+import wb.wolbu.repository.EnrollmentRepository;
+import wb.wolbu.repository.MemberRepository;
+import wb.wolbu.repository.WaitlistEntryRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class WaitlistServiceTest {
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private WaitlistQueue waitlistQueue;
+    @Mock
+    private SeatLedger seatLedger;
+
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    private Member student;
+    private Member waitingStudent;
+    private Course fullCourse;
+
+    @BeforeEach
+    void setUp() {
+        student = new Member("Mark Han", "markymark331@gmail.com", "01012345678", "Password1!", MemberType.STUDENT);
+        waitingStudent = new Member("Waiting", "waiting@gmail.com", "01012345679", "Password1!", MemberType.STUDENT);
+        Member instructor = new Member("Instructor", "example@gmail.com", "01015245678", "Password1!", MemberType.INSTRUCTOR);
+        fullCourse = new Course("Full Course", 1, 10000, instructor);
+        fullCourse.increaseEnrollmentCount();
+        ReflectionTestUtils.setField(fullCourse, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 매진 강좌인 경우 대기 순번을 반환")
+    void joinWaitlist_WithFullCourse_ShouldReturnPosition() {
+        // given
+        WaitlistEntry entry = new WaitlistEntry(student, fullCourse);
+        ReflectionTestUtils.setField(entry, "id", 10L);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findById(1L)).willReturn(Optional.of(fullCourse));
+        given(enrollmentRepository.findByStudentAndCourse(student, fullCourse)).willReturn(Optional.empty());
+        given(waitlistEntryRepository.saveAndFlush(any(WaitlistEntry.class))).willReturn(entry);
+        given(waitlistQueue.positionOf(1L, 10L)).willReturn(3);
+        given(waitlistQueue.size(1L)).willReturn(2);
+
+        // when
+        WaitlistDTO result = waitlistService.joinWaitlist(1L, 1L);
+
+        // then
+        assertThat(result.getPosition()).isEqualTo(3);
+        assertThat(result.getWaitingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 정원이 남은 강좌인 경우")
+    void joinWaitlist_WithAvailableCourse_ShouldThrowException() {
+        // given
+        Course openCourse = new Course("Open Course", 10, 10000, fullCourse.getInstructor());
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findById(2L)).willReturn(Optional.of(openCourse));
+
+        // when & then
+        assertThatThrownBy(() -> waitlistService.joinWaitlist(1L, 2L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessageContaining("정원이 남아 있는 강좌입니다.");
+        verify(waitlistEntryRepository, never()).saveAndFlush(any(WaitlistEntry.class));
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 이미 대기 중인 경우")
+    void joinWaitlist_WithAlreadyWaitingStudent_ShouldThrowException() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(student));
+        given(courseRepository.findById(1L)).willReturn(Optional.of(fullCourse));
+        given(enrollmentRepository.findByStudentAndCourse(student, fullCourse)).willReturn(Optional.empty());
+        given(waitlistEntryRepository.saveAndFlush(any(WaitlistEntry.class)))
+                .willThrow(new DataIntegrityViolationException("uk_waitlist_member_course"));
+
+        // when & then
+        assertThatThrownBy(() -> waitlistService.joinWaitlist(1L, 1L))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasMessageContaining("이미 대기 중인 강좌입니다.");
+    }
+
+    @Test
+    @DisplayName("대기열 승격 - 취소로 빈 좌석을 맨 앞 학생에게 배정")
+    void promoteNext_WithFreedSeat_ShouldEnrollHeadOfWaitlist() {
+        // given
+        fullCourse.decreaseEnrollmentCount();
+        WaitlistEntry head = new WaitlistEntry(waitingStudent, fullCourse);
+        given(waitlistEntryRepository.findFirstByCourseIdOrderByIdAsc(1L)).willReturn(Optional.of(head));
+        given(enrollmentRepository.findByStudentAndCourse(waitingStudent, fullCourse)).willReturn(Optional.empty());
+        given(enrollmentRepository.save(any(Enrollment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Optional<Enrollment> result = waitlistService.promoteNext(fullCourse);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getStudent()).isEqualTo(waitingStudent);
+        assertThat(fullCourse.getCurrentEnrollmentCount()).isEqualTo(1);
+        verify(waitlistEntryRepository).delete(head);
+    }
+
+    @Test
+    @DisplayName("대기열 승격 - 이미 수강 중인 대기자는 건너뛴다")
+    void promoteNext_WithAlreadyEnrolledHead_ShouldSkipToNext() {
+        // given
+        fullCourse.decreaseEnrollmentCount();
+        WaitlistEntry enrolledHead = new WaitlistEntry(student, fullCourse);
+        WaitlistEntry next = new WaitlistEntry(waitingStudent, fullCourse);
+        given(waitlistEntryRepository.findFirstByCourseIdOrderByIdAsc(1L))
+                .willReturn(Optional.of(enrolledHead), Optional.of(next));
+        given(enrollmentRepository.findByStudentAndCourse(student, fullCourse))
+                .willReturn(Optional.of(new Enrollment(student, fullCourse)));
+        given(enrollmentRepository.findByStudentAndCourse(waitingStudent, fullCourse)).willReturn(Optional.empty());
+        given(enrollmentRepository.save(any(Enrollment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Optional<Enrollment> result = waitlistService.promoteNext(fullCourse);
+
+        // then
+        assertThat(result).map(Enrollment::getStudent).contains(waitingStudent);
+        verify(waitlistEntryRepository).delete(enrolledHead);
+        verify(waitlistEntryRepository).delete(next);
+    }
+
+    @Test
+    @DisplayName("대기열 승격 - 빈 좌석이 없으면 대기열을 조회하지 않는다")
+    void promoteNext_WithFullCourse_ShouldDoNothing() {
+        // when
+        Optional<Enrollment> result = waitlistService.promoteNext(fullCourse);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(waitlistEntryRepository, never()).findFirstByCourseIdOrderByIdAsc(any());
+    }
+}